@@ -0,0 +1,37 @@
+package io.github.kashish5567.blogpostmanager.benchmark;
+
+import io.github.kashish5567.blogpostmanager.model.BlogPost;
+
+import java.time.LocalDateTime;
+
+/**
+ * Generates deterministic blog posts for benchmarks.
+ */
+final class BenchmarkData {
+
+    static final int AUTHOR_COUNT = 100;
+
+    private static final String PARAGRAPH = "Benchmarks need realistic bodies, so every generated post carries "
+            + "a few paragraphs of filler text about caching, indexing, pagination and serialization. ";
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * Creates the {@code index}-th post. Posts have unique titles, are spread over
+     * {@value #AUTHOR_COUNT} authors, and every other one is published.
+     */
+    static BlogPost post(int index, int contentParagraphs) {
+        return new BlogPost(
+                "Benchmark post number " + index,
+                PARAGRAPH.repeat(contentParagraphs),
+                author(index),
+                "https://images.example.com/covers/" + index + ".png",
+                index % 2 == 0,
+                LocalDateTime.of(2024, 1, 1, 0, 0).plusMinutes(index));
+    }
+
+    static String author(int index) {
+        return "Author " + (index % AUTHOR_COUNT);
+    }
+}
@@ -0,0 +1,61 @@
+package io.github.kashish5567.blogpostmanager.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import io.github.kashish5567.blogpostmanager.model.BlogPost;
+import io.github.kashish5567.blogpostmanager.model.BlogPostSummary;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Jackson serialization cost of list responses, comparing full posts with content-free
+ * summaries for typical page sizes and post lengths.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BlogPostSerializationBenchmark {
+
+    @Param({"20", "100"})
+    private int listSize;
+
+    @Param({"3", "100"})
+    private int contentParagraphs;
+
+    private ObjectWriter postListWriter;
+    private ObjectWriter summaryListWriter;
+    private List<BlogPost> posts;
+    private List<BlogPostSummary> summaries;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ObjectMapper mapper = JsonMapper.builder()
+                .findAndAddModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        postListWriter = mapper.writerFor(mapper.getTypeFactory().constructCollectionType(List.class, BlogPost.class));
+        summaryListWriter = mapper.writerFor(mapper.getTypeFactory().constructCollectionType(List.class, BlogPostSummary.class));
+        posts = IntStream.rangeClosed(1, listSize)
+                .mapToObj(i -> BenchmarkData.post(i, contentParagraphs))
+                .toList();
+        summaries = posts.stream().map(BlogPostSummary::of).toList();
+    }
+
+    @Benchmark
+    public byte[] serializePosts() throws Exception {
+        return postListWriter.writeValueAsBytes(posts);
+    }
+
+    @Benchmark
+    public byte[] serializeSummaries() throws Exception {
+        return summaryListWriter.writeValueAsBytes(summaries);
+    }
+}
@@ -0,0 +1,109 @@
+package io.github.kashish5567.blogpostmanager.benchmark;
+
+import io.github.kashish5567.blogpostmanager.BlogPostManagerApplication;
+import io.github.kashish5567.blogpostmanager.model.BatchItemResult;
+import io.github.kashish5567.blogpostmanager.model.BlogPost;
+import io.github.kashish5567.blogpostmanager.model.BlogPostPage;
+import io.github.kashish5567.blogpostmanager.model.BlogPostSummary;
+import io.github.kashish5567.blogpostmanager.service.BlogPostService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end latency of {@code DatabaseBlogPostService} against an embedded H2 database
+ * in MySQL mode, with the full Spring context, migrations, cache and search index in place.
+ * The {@code cache} parameter compares cached reads with reads that always go to the database.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DatabaseBlogPostServiceBenchmark {
+
+    private static final int POST_COUNT = 10_000;
+
+    @Param({"10000", "0"})
+    private int cacheSize;
+
+    private ConfigurableApplicationContext context;
+    private BlogPostService service;
+    private long[] ids;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = new SpringApplicationBuilder(BlogPostManagerApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:benchmark;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                        "blogposts.cache.maximum-size=" + cacheSize,
+                        "logging.level.root=WARN")
+                .run();
+        service = context.getBean("databaseBlogPostService", BlogPostService.class);
+
+        // IDs come from the table generator and need not start at 1, so keep the ones assigned
+        ids = new long[POST_COUNT];
+        List<BlogPost> batch = new ArrayList<>();
+        for (int i = 1; i <= POST_COUNT; i++) {
+            batch.add(BenchmarkData.post(i, 3));
+            if (batch.size() == 1000) {
+                List<BatchItemResult> results = service.createBlogPosts(batch);
+                for (int j = 0; j < results.size(); j++) {
+                    ids[i - batch.size() + j] = results.get(j).id();
+                }
+                batch = new ArrayList<>();
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    @Benchmark
+    public BlogPost getById() {
+        return service.getBlogPostById(randomId());
+    }
+
+    @Benchmark
+    public BlogPost getByTitle() {
+        return service.getBlogPostByTitle("Benchmark post number " + (randomIndex() + 1));
+    }
+
+    @Benchmark
+    public BlogPostPage getFirstPage() {
+        return service.getBlogPostPage(null, 20);
+    }
+
+    @Benchmark
+    public List<BlogPostSummary> getPublished() {
+        return service.getPublishedBlogPostSummaries();
+    }
+
+    @Benchmark
+    public List<BlogPostSummary> getByAuthor() {
+        return service.getBlogPostSummariesByAuthor(BenchmarkData.author(randomIndex() + 1));
+    }
+
+    @Benchmark
+    public BlogPost updateContent() {
+        return service.updateBlogPostContent(randomId(), "Updated content for the benchmark run.");
+    }
+
+    private long randomId() {
+        return ids[randomIndex()];
+    }
+
+    private static int randomIndex() {
+        return ThreadLocalRandom.current().nextInt(POST_COUNT);
+    }
+}
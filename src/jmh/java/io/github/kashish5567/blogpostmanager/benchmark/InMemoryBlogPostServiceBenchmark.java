@@ -0,0 +1,72 @@
+package io.github.kashish5567.blogpostmanager.benchmark;
+
+import io.github.kashish5567.blogpostmanager.model.BlogPost;
+import io.github.kashish5567.blogpostmanager.model.BlogPostPage;
+import io.github.kashish5567.blogpostmanager.model.BlogPostSummary;
+import io.github.kashish5567.blogpostmanager.service.InMemoryBlogPostService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lookup, list and update throughput of {@link InMemoryBlogPostService} at different store sizes.
+ * Runs with several threads so contention on the concurrent indexes shows up in the results.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Threads(4)
+public class InMemoryBlogPostServiceBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    private int postCount;
+
+    private InMemoryBlogPostService service;
+
+    @Setup(Level.Trial)
+    public void populate() {
+        service = new InMemoryBlogPostService();
+        for (int i = 1; i <= postCount; i++) {
+            service.createBlogPost(BenchmarkData.post(i, 3));
+        }
+    }
+
+    @Benchmark
+    public BlogPost getById() {
+        return service.getBlogPostById(randomId());
+    }
+
+    @Benchmark
+    public BlogPost getByTitle() {
+        return service.getBlogPostByTitle("Benchmark post number " + randomId());
+    }
+
+    @Benchmark
+    public BlogPostPage getFirstPage() {
+        return service.getBlogPostPage(null, 20);
+    }
+
+    @Benchmark
+    public List<BlogPostSummary> getByAuthor() {
+        return service.getBlogPostSummariesByAuthor(BenchmarkData.author((int) randomId()));
+    }
+
+    @Benchmark
+    public BlogPost updateContent() {
+        return service.updateBlogPostContent(randomId(), "Updated content for the benchmark run.");
+    }
+
+    @Benchmark
+    public BlogPost togglePublishStatus() {
+        return service.togglePublishStatus(randomId());
+    }
+
+    private long randomId() {
+        return ThreadLocalRandom.current().nextLong(1, postCount + 1);
+    }
+}
@@ -0,0 +1,230 @@
+package io.github.kashish5567.blogpostmanager.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Cold-start comparison of the packaged application with and without the production profile's
+ * AOT processing and CDS archive.
+ * <p>
+ * Each variant is started {@code startup.runs} times as a separate JVM from the extracted jar in
+ * {@code startup.app-dir} (by default {@code target/app}, as left by {@code ./mvnw -Pproduction
+ * package}). The time from launching the process to the first successful
+ * {@code GET /api/blogposts} and the process's resident memory at that moment are recorded, and
+ * the median and minimum of both are printed and written as JSON to the path given as the first
+ * argument.
+ * <ul>
+ *   <li>{@code baseline}: a plain start with the in-memory service enabled, as before the
+ *   production profile existed</li>
+ *   <li>{@code aot}: with {@code -Dspring.aot.enabled=true}</li>
+ *   <li>{@code aot-cds}: additionally with {@code -XX:SharedArchiveFile=application.jsa}</li>
+ * </ul>
+ * The application runs against in-process H2, whose driver is appended to the classpath of each
+ * run. Set {@code startup.datasource.url} (plus username and password) to measure against a real
+ * MySQL. Resident memory is read from {@code /proc} and reported as -1 where that is missing.
+ */
+public final class StartupBenchmark {
+
+    private static final String MAIN_CLASS = "io.github.kashish5567.blogpostmanager.BlogPostManagerApplication";
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(2);
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(10);
+
+    private StartupBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Path appDir = Path.of(System.getProperty("startup.app-dir", "target/app")).toAbsolutePath();
+        int runs = Integer.getInteger("startup.runs", 5);
+        Path jar = applicationJar(appDir);
+        if (!Files.exists(appDir.resolve("application.jsa"))) {
+            throw new IllegalStateException("No CDS archive in " + appDir + "; run ./mvnw -Pproduction package first");
+        }
+
+        List<Result> results = new ArrayList<>();
+        for (Variant variant : Variant.values()) {
+            long[] startupNanos = new long[runs];
+            long[] rssKilobytes = new long[runs];
+            for (int run = 0; run < runs; run++) {
+                long[] sample = start(variant, appDir, jar, run);
+                startupNanos[run] = sample[0];
+                rssKilobytes[run] = sample[1];
+            }
+            results.add(new Result(variant, startupNanos, rssKilobytes));
+        }
+
+        String json = toJson(results, runs);
+        System.out.println(json);
+        if (args.length > 0) {
+            Files.writeString(Path.of(args[0]), json);
+        }
+    }
+
+    /**
+     * Starts one JVM and waits for its first successful request.
+     *
+     * @return the time to that request in nanoseconds and the resident memory in kilobytes
+     */
+    private static long[] start(Variant variant, Path appDir, Path jar, int run) throws Exception {
+        int port = freePort();
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(variant.jvmArguments);
+        command.add("-Dserver.port=" + port);
+        command.add("-Dlogging.level.root=WARN");
+        String datasourceUrl = System.getProperty("startup.datasource.url");
+        if (datasourceUrl == null) {
+            command.add("-Dspring.datasource.url=jdbc:h2:mem:startup;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+        } else {
+            command.add("-Dspring.datasource.url=" + datasourceUrl);
+            command.add("-Dspring.datasource.username=" + System.getProperty("startup.datasource.username", ""));
+            command.add("-Dspring.datasource.password=" + System.getProperty("startup.datasource.password", ""));
+        }
+        // The jar's manifest puts lib/ on the classpath; the relative path matches the CDS training run
+        command.add("-cp");
+        command.add(jar.getFileName() + File.pathSeparator + h2Jar());
+        command.add(MAIN_CLASS);
+
+        Path log = appDir.resolveSibling("startup-" + variant.label + ".log");
+        URI uri = URI.create("http://localhost:" + port + "/api/blogposts?size=1");
+        try (HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build()) {
+            HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(10)).GET().build();
+            long start = System.nanoTime();
+            Process process = new ProcessBuilder(command)
+                    .directory(appDir.toFile())
+                    .redirectErrorStream(true)
+                    .redirectOutput(log.toFile())
+                    .start();
+            try {
+                long deadline = start + STARTUP_TIMEOUT.toNanos();
+                while (true) {
+                    try {
+                        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                        if (response.statusCode() == 200) {
+                            long elapsed = System.nanoTime() - start;
+                            long rss = residentKilobytes(process.pid());
+                            System.out.printf(Locale.ROOT, "%s run %d: %.0f ms, %d MB%n",
+                                    variant.label, run + 1, elapsed / 1_000_000.0, rss / 1024);
+                            return new long[] {elapsed, rss};
+                        }
+                    } catch (IOException e) {
+                        // Not listening yet
+                    }
+                    if (!process.isAlive()) {
+                        throw new IllegalStateException(variant.label + " exited with " + process.exitValue() + "; see " + log);
+                    }
+                    if (System.nanoTime() > deadline) {
+                        throw new IllegalStateException(variant.label + " did not answer within " + STARTUP_TIMEOUT + "; see " + log);
+                    }
+                    Thread.sleep(POLL_INTERVAL);
+                }
+            } finally {
+                process.destroy();
+                if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                    process.destroyForcibly().waitFor();
+                }
+            }
+        }
+    }
+
+    private static Path applicationJar(Path appDir) throws IOException {
+        try (Stream<Path> files = Files.list(appDir)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(".jar"))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalStateException("No extracted jar in " + appDir
+                            + "; run ./mvnw -Pproduction package first"));
+        }
+    }
+
+    private static String h2Jar() {
+        try {
+            return Path.of(org.h2.Driver.class.getProtectionDomain().getCodeSource().getLocation().toURI()).toString();
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static int freePort() {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Reads {@code VmRSS} from {@code /proc/<pid>/status}, or returns -1 if it is not available.
+     */
+    private static long residentKilobytes(long pid) {
+        Path status = Path.of("/proc", Long.toString(pid), "status");
+        try (Stream<String> lines = Files.lines(status)) {
+            return lines.filter(line -> line.startsWith("VmRSS:"))
+                    .map(line -> line.replaceAll("[^0-9]", ""))
+                    .mapToLong(Long::parseLong)
+                    .findFirst()
+                    .orElse(-1);
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+
+    private static String toJson(List<Result> results, int runs) {
+        StringBuilder json = new StringBuilder("{\"runs\":").append(runs).append(",\"results\":[");
+        for (int i = 0; i < results.size(); i++) {
+            Result r = results.get(i);
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append(String.format(Locale.ROOT,
+                    "{\"variant\":\"%s\",\"timeToFirstRequestMedianMs\":%.1f,\"timeToFirstRequestMinMs\":%.1f,"
+                            + "\"rssMedianMb\":%.1f,\"rssMinMb\":%.1f}",
+                    r.variant().label,
+                    median(r.startupNanos()) / 1_000_000.0, min(r.startupNanos()) / 1_000_000.0,
+                    median(r.rssKilobytes()) / 1024.0, min(r.rssKilobytes()) / 1024.0));
+        }
+        return json.append("]}").toString();
+    }
+
+    private static double median(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        int middle = sorted.length / 2;
+        return sorted.length % 2 == 1 ? sorted[middle] : (sorted[middle - 1] + sorted[middle]) / 2.0;
+    }
+
+    private static long min(long[] values) {
+        return Arrays.stream(values).min().orElse(0);
+    }
+
+    private enum Variant {
+        BASELINE("baseline", "-Dblogposts.in-memory.enabled=true"),
+        AOT("aot", "-Dspring.aot.enabled=true"),
+        AOT_CDS("aot-cds", "-Dspring.aot.enabled=true", "-XX:SharedArchiveFile=application.jsa");
+
+        private final String label;
+        private final List<String> jvmArguments;
+
+        Variant(String label, String... jvmArguments) {
+            this.label = label;
+            this.jvmArguments = List.of(jvmArguments);
+        }
+    }
+
+    private record Result(Variant variant, long[] startupNanos, long[] rssKilobytes) {
+    }
+}
@@ -0,0 +1,208 @@
+package io.github.kashish5567.blogpostmanager.benchmark;
+
+import io.github.kashish5567.blogpostmanager.BlogPostManagerApplication;
+import io.github.kashish5567.blogpostmanager.model.BlogPost;
+import io.github.kashish5567.blogpostmanager.service.BlogPostService;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Closed-loop HTTP load test comparing Tomcat on platform threads with Tomcat on virtual threads.
+ * <p>
+ * For each mode the application is started on a random port, seeded with posts, warmed up and
+ * then hit by {@code loadtest.concurrency} clients, each issuing {@code GET /api/blogposts/{id}}
+ * back to back for {@code loadtest.seconds}. The read cache is disabled so every request makes a
+ * JDBC round trip. Throughput and latency percentiles for both modes are printed and written as
+ * JSON to the path given as the first argument.
+ * <p>
+ * By default the application runs against in-process H2, where a query costs microseconds and
+ * the difference between modes mostly reflects Tomcat's thread cap. Set
+ * {@code loadtest.datasource.url} (plus username and password) to measure against a real MySQL.
+ */
+public final class ThreadModeLoadTest {
+
+    private static final int POST_COUNT = 5_000;
+
+    private ThreadModeLoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int concurrency = Integer.getInteger("loadtest.concurrency", 1000);
+        Duration duration = Duration.ofSeconds(Long.getLong("loadtest.seconds", 30));
+        Duration warmup = Duration.ofSeconds(Long.getLong("loadtest.warmup-seconds", 10));
+
+        List<Result> results = new ArrayList<>();
+        for (boolean virtualThreads : new boolean[] {false, true}) {
+            results.add(run(virtualThreads, concurrency, warmup, duration));
+        }
+
+        String json = toJson(results, concurrency);
+        System.out.println(json);
+        if (args.length > 0) {
+            Files.writeString(Path.of(args[0]), json);
+        }
+    }
+
+    private static Result run(boolean virtualThreads, int concurrency, Duration warmup, Duration duration)
+            throws Exception {
+        String mode = virtualThreads ? "virtual" : "platform";
+        List<String> properties = new ArrayList<>(List.of(
+                "server.port=0",
+                "spring.threads.virtual.enabled=" + virtualThreads,
+                "blogposts.cache.maximum-size=0",
+                "logging.level.root=WARN"));
+        String datasourceUrl = System.getProperty("loadtest.datasource.url");
+        if (datasourceUrl == null) {
+            properties.add("spring.datasource.url=jdbc:h2:mem:loadtest_" + mode + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+        } else {
+            properties.add("spring.datasource.url=" + datasourceUrl);
+            properties.add("spring.datasource.username=" + System.getProperty("loadtest.datasource.username", ""));
+            properties.add("spring.datasource.password=" + System.getProperty("loadtest.datasource.password", ""));
+        }
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(BlogPostManagerApplication.class)
+                .properties(properties.toArray(String[]::new))
+                .run()) {
+            long[] ids = seed(context.getBean("databaseBlogPostService", BlogPostService.class), mode);
+            int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+            URI base = URI.create("http://localhost:" + port + "/api/blogposts/");
+
+            try (HttpClient client = HttpClient.newBuilder()
+                    .executor(Executors.newVirtualThreadPerTaskExecutor())
+                    .connectTimeout(Duration.ofSeconds(10))
+                    .build()) {
+                drive(client, base, ids, concurrency, warmup);
+                Result result = drive(client, base, ids, concurrency, duration);
+                return result.withMode(mode);
+            }
+        }
+    }
+
+    private static long[] seed(BlogPostService service, String mode) {
+        List<BlogPost> posts = new ArrayList<>(POST_COUNT);
+        for (int i = 1; i <= POST_COUNT; i++) {
+            BlogPost post = BenchmarkData.post(i, 3);
+            post.setTitle(post.getTitle() + " " + mode);
+            posts.add(post);
+        }
+        return service.createBlogPosts(posts).stream()
+                .filter(result -> result.success())
+                .mapToLong(result -> result.id())
+                .toArray();
+    }
+
+    private static Result drive(HttpClient client, URI base, long[] ids, int concurrency, Duration duration)
+            throws Exception {
+        long deadline = System.nanoTime() + duration.toNanos();
+        List<Future<long[]>> workers = new ArrayList<>(concurrency);
+        int[] errors = new int[concurrency];
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int w = 0; w < concurrency; w++) {
+                int worker = w;
+                workers.add(executor.submit(() -> {
+                    LatencyRecorder recorder = new LatencyRecorder();
+                    while (System.nanoTime() < deadline) {
+                        long id = ids[ThreadLocalRandom.current().nextInt(ids.length)];
+                        HttpRequest request = HttpRequest.newBuilder(base.resolve(Long.toString(id)))
+                                .timeout(Duration.ofSeconds(30))
+                                .GET()
+                                .build();
+                        long start = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() != 200) {
+                                errors[worker]++;
+                            }
+                        } catch (IOException e) {
+                            errors[worker]++;
+                        }
+                        recorder.record(System.nanoTime() - start);
+                    }
+                    return recorder.toArray();
+                }));
+            }
+        }
+
+        LatencyRecorder all = new LatencyRecorder();
+        for (Future<long[]> worker : workers) {
+            all.recordAll(worker.get());
+        }
+        long[] latencies = all.toArray();
+        Arrays.sort(latencies);
+        return new Result(null, latencies.length / (double) duration.toSeconds(),
+                percentile(latencies, 0.50), percentile(latencies, 0.99), percentile(latencies, 0.999),
+                Arrays.stream(errors).sum());
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.min(sorted.length - 1, Math.ceil(quantile * sorted.length) - 1);
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+
+    private static String toJson(List<Result> results, int concurrency) {
+        StringBuilder json = new StringBuilder("{\"concurrency\":").append(concurrency).append(",\"results\":[");
+        for (int i = 0; i < results.size(); i++) {
+            Result r = results.get(i);
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append(String.format(Locale.ROOT,
+                    "{\"mode\":\"%s\",\"requestsPerSecond\":%.1f,\"p50Ms\":%.3f,\"p99Ms\":%.3f,\"p999Ms\":%.3f,\"errors\":%d}",
+                    r.mode(), r.requestsPerSecond(), r.p50Ms(), r.p99Ms(), r.p999Ms(), r.errors()));
+        }
+        return json.append("]}").toString();
+    }
+
+    private record Result(String mode, double requestsPerSecond, double p50Ms, double p99Ms, double p999Ms, int errors) {
+
+        Result withMode(String mode) {
+            return new Result(mode, requestsPerSecond, p50Ms, p99Ms, p999Ms, errors);
+        }
+    }
+
+    /**
+     * Growable array of latencies in nanoseconds, owned by a single worker.
+     */
+    private static final class LatencyRecorder {
+
+        private long[] values = new long[1024];
+        private int size;
+
+        void record(long nanos) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = nanos;
+        }
+
+        void recordAll(long[] nanos) {
+            for (long value : nanos) {
+                record(value);
+            }
+        }
+
+        long[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package io.github.kashish5567.blogpostmanager.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import io.github.kashish5567.blogpostmanager.model.BlogPost;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Bytes on the wire and CPU per wire format for a list response, to choose the encoding for
+ * service-to-service calls.
+ * <p>
+ * Each format is measured for encoding and decoding a list of full posts. The {@code -gzip}
+ * variants include compression at the level Tomcat uses. The encoded size of every
+ * combination is printed once per trial as a {@code wire-size} line.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WireFormatBenchmark {
+
+    @Param({"json", "json-gzip", "smile", "smile-gzip", "cbor"})
+    private String format;
+
+    @Param({"20", "100"})
+    private int listSize;
+
+    @Param({"3", "100"})
+    private int contentParagraphs;
+
+    private ObjectWriter writer;
+    private ObjectReader reader;
+    private boolean gzip;
+    private List<BlogPost> posts;
+    private byte[] encoded;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        String mapperName = format.endsWith("-gzip") ? format.substring(0, format.length() - 5) : format;
+        ObjectMapper mapper = switch (mapperName) {
+            case "json" -> JsonMapper.builder().findAndAddModules()
+                    .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).build();
+            case "smile" -> SmileMapper.builder().findAndAddModules()
+                    .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).build();
+            case "cbor" -> CBORMapper.builder().findAndAddModules()
+                    .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).build();
+            default -> throw new IllegalArgumentException("Unknown format: " + format);
+        };
+        gzip = format.endsWith("-gzip");
+        writer = mapper.writerFor(mapper.getTypeFactory().constructCollectionType(List.class, BlogPost.class));
+        reader = mapper.readerFor(mapper.getTypeFactory().constructCollectionType(List.class, BlogPost.class));
+        posts = IntStream.rangeClosed(1, listSize)
+                .mapToObj(i -> BenchmarkData.post(i, contentParagraphs))
+                .toList();
+        encoded = encode();
+        System.out.printf(Locale.ROOT, "%nwire-size format=%s listSize=%d contentParagraphs=%d bytes=%d%n",
+                format, listSize, contentParagraphs, encoded.length);
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (OutputStream out = gzip ? new GZIPOutputStream(bytes) : bytes) {
+            writer.writeValue(out, posts);
+        }
+        return bytes.toByteArray();
+    }
+
+    @Benchmark
+    public List<BlogPost> decode() throws IOException {
+        try (InputStream in = gzip
+                ? new GZIPInputStream(new ByteArrayInputStream(encoded))
+                : new ByteArrayInputStream(encoded)) {
+            return reader.readValue(in);
+        }
+    }
+}
@@ -1,13 +1,22 @@
 package io.github.kashish5567.blogpostmanager;
 
+import io.github.kashish5567.blogpostmanager.transfer.BlogPostTransferRunner;
 import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class BlogPostManagerApplication {
 
 	public static void main(String[] args) {
-		SpringApplication.run(BlogPostManagerApplication.class, args);
+		SpringApplication application = new SpringApplication(BlogPostManagerApplication.class);
+		if (BlogPostTransferRunner.isTransferCommand(args)) {
+			// Command-line export or import; see BlogPostTransferRunner
+			application.setWebApplicationType(WebApplicationType.NONE);
+		}
+		application.run(args);
 	}
 
 }
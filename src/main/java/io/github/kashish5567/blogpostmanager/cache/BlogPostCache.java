@@ -0,0 +1,175 @@
+package io.github.kashish5567.blogpostmanager.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.kashish5567.blogpostmanager.model.BlogPost;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+
+/**
+ * Bounded read-through cache for single blog post lookups.
+ * <p>
+ * Posts are cached by ID. Title lookups go through a second, smaller map from title to ID,
+ * and every title hit is checked against the cached post's current title. A renamed or deleted
+ * post therefore can never be returned for its old title, even if an invalidation was missed.
+ * <p>
+ * Cached posts are shared between request threads and must be treated as read-only.
+ * Write paths load their own copy from the repository and call {@link #put(BlogPost)}
+ * or {@link #evict(long)} once the change is saved.
+ * <p>
+ * A title lookup that misses loads the post outside the cache and only stores it if no post
+ * was evicted in the meantime, so a post deleted or changed elsewhere during the load is not
+ * put back. It never replaces a newer cached version either.
+ * <p>
+ * Hit, miss and eviction counts are published as {@code cache.*} meters tagged with
+ * {@code cache=blogPostsById} and {@code cache=blogPostIdsByTitle}.
+ */
+@Component
+public class BlogPostCache {
+
+    private final Cache<Long, BlogPost> postsById;
+    private final Cache<String, Long> idsByTitle;
+    private final AtomicLong evictions = new AtomicLong();
+
+    public BlogPostCache(@Value("${blogposts.cache.maximum-size:10000}") long maximumSize,
+                         @Value("${blogposts.cache.ttl:10m}") Duration ttl,
+                         MeterRegistry meterRegistry) {
+        this.postsById = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.idsByTitle = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, postsById, "blogPostsById");
+        CaffeineCacheMetrics.monitor(meterRegistry, idsByTitle, "blogPostIdsByTitle");
+    }
+
+    /**
+     * Returns the cached post with the given ID, loading and caching it on a miss.
+     *
+     * @param id the blog post ID
+     * @param loader loads the post from the database, returning null if it does not exist
+     * @return the blog post, or null if the loader found nothing
+     */
+    public BlogPost getById(long id, LongFunction<BlogPost> loader) {
+        BlogPost post = postsById.get(id, loader::apply);
+        if (post != null) {
+            idsByTitle.put(post.getTitle(), post.getId());
+        }
+        return post;
+    }
+
+    /**
+     * Returns the cached post with the given ID without loading it on a miss.
+     *
+     * @param id the blog post ID
+     * @return the cached blog post, or null if it is not cached
+     */
+    public BlogPost getIfPresent(long id) {
+        return postsById.getIfPresent(id);
+    }
+
+    /**
+     * Returns the cached post with the given title, loading and caching it on a miss.
+     *
+     * @param title the blog post title
+     * @param loader loads the post from the database, returning null if it does not exist
+     * @return the blog post, or null if the loader found nothing
+     */
+    public BlogPost getByTitle(String title, Function<String, BlogPost> loader) {
+        Long id = idsByTitle.getIfPresent(title);
+        if (id != null) {
+            BlogPost post = postsById.getIfPresent(id);
+            if (post != null && title.equals(post.getTitle())) {
+                return post;
+            }
+            idsByTitle.invalidate(title);
+        }
+        long evictionsBefore = evictions.get();
+        BlogPost post = loader.apply(title);
+        if (post != null) {
+            // Checked under the entry's lock, so an eviction either runs first and is seen here,
+            // or runs after and removes what was stored
+            BlogPost stored = postsById.asMap().compute(post.getId(), (key, cached) -> {
+                if (evictions.get() != evictionsBefore) {
+                    return cached;
+                }
+                return cached == null || post.getVersion() >= cached.getVersion() ? post : cached;
+            });
+            if (stored == post) {
+                idsByTitle.put(post.getTitle(), post.getId());
+            }
+        }
+        return post;
+    }
+
+    /**
+     * Stores the current state of a post, replacing any previous entry for its ID unless that
+     * entry holds a newer version. Concurrent writes to one post may finish in either order, and
+     * the older result must not overwrite the newer one.
+     *
+     * @param post the saved blog post
+     */
+    public void put(BlogPost post) {
+        BlogPost stored = postsById.asMap().merge(post.getId(), post,
+                (cached, fresh) -> fresh.getVersion() >= cached.getVersion() ? fresh : cached);
+        if (stored == post) {
+            idsByTitle.put(post.getTitle(), post.getId());
+        }
+    }
+
+    /**
+     * Replaces the cached entry for a post only if it holds the same version, for background
+     * jobs that add fields which are not part of the versioned state. Does nothing if the post
+     * is not cached or a newer version is.
+     *
+     * @param post the post with the additional fields set
+     */
+    public void replaceIfCurrent(BlogPost post) {
+        postsById.asMap().computeIfPresent(post.getId(),
+                (id, cached) -> cached.getVersion() == post.getVersion() ? post : cached);
+    }
+
+    /**
+     * Drops the title key of a post whose title has changed.
+     *
+     * @param oldTitle the title the post had before the update
+     */
+    public void evictTitle(String oldTitle) {
+        idsByTitle.invalidate(oldTitle);
+    }
+
+    /**
+     * Removes a post and its title key from the cache.
+     *
+     * @param id the ID of the deleted or modified blog post
+     */
+    public void evict(long id) {
+        evictions.incrementAndGet();
+        BlogPost post = postsById.getIfPresent(id);
+        postsById.invalidate(id);
+        if (post != null) {
+            idsByTitle.invalidate(post.getTitle());
+        }
+    }
+
+    /**
+     * Removes every entry from the cache.
+     */
+    public void clear() {
+        evictions.incrementAndGet();
+        postsById.invalidateAll();
+        idsByTitle.invalidateAll();
+    }
+}
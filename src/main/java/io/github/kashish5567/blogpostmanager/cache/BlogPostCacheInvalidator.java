@@ -0,0 +1,127 @@
+package io.github.kashish5567.blogpostmanager.cache;
+
+import io.github.kashish5567.blogpostmanager.changes.ChangeLog;
+import io.github.kashish5567.blogpostmanager.model.BlogPostChange;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Keeps the {@link BlogPostCache} of this instance coherent with writes made by other
+ * instances, using only the shared database.
+ * <p>
+ * Every write records an entry in the {@link ChangeLog}, stamped with the ID of the instance
+ * that made it. Each instance keeps a watermark: the last sequence it has processed. Every
+ * {@code blogposts.cache.coherence.poll-interval} it reads the entries after its watermark,
+ * evicts the posts that other instances changed, and advances the watermark. A write on one
+ * instance is therefore visible on the others within about one poll interval.
+ * <p>
+ * Each evicted post is evicted once more on the following poll. That catches a load which
+ * read the old row just before the eviction and stored it just after. Entries beyond a gap in
+ * the sequence are evicted as soon as they are visible, but the watermark only moves past the
+ * gap once it has settled, so a slow transaction's entry is never skipped.
+ * <p>
+ * If polling keeps failing for longer than {@code blogposts.cache.coherence.max-staleness},
+ * the whole cache is cleared on every poll until it succeeds again. Cached posts are then
+ * never older than that bound, even while this instance cannot read the log. The cache's own
+ * {@code blogposts.cache.ttl} remains a backstop.
+ */
+@Component
+public class BlogPostCacheInvalidator {
+
+    private static final Logger log = LoggerFactory.getLogger(BlogPostCacheInvalidator.class);
+
+    private static final int PAGE_SIZE = 500;
+
+    private final ChangeLog changeLog;
+    private final BlogPostCache blogPostCache;
+    private final boolean enabled;
+    private final long maxStalenessNanos;
+    private final Counter invalidations;
+    private final Counter clears;
+
+    private Set<Long> evictAgain = new HashSet<>();
+    private volatile long watermark = -1;
+    private volatile long lastSuccess;
+
+    public BlogPostCacheInvalidator(ChangeLog changeLog, BlogPostCache blogPostCache, MeterRegistry meterRegistry,
+                                    @Value("${blogposts.cache.coherence.enabled:true}") boolean enabled,
+                                    @Value("${blogposts.cache.coherence.max-staleness:10s}") Duration maxStaleness) {
+        this.changeLog = changeLog;
+        this.blogPostCache = blogPostCache;
+        this.enabled = enabled;
+        this.maxStalenessNanos = maxStaleness.toNanos();
+        this.invalidations = Counter.builder("blogposts.cache.coherence.invalidations")
+                .description("Cached posts evicted because another instance changed them")
+                .register(meterRegistry);
+        this.clears = Counter.builder("blogposts.cache.coherence.clears")
+                .description("Times the whole cache was cleared because the change log could not be read in time")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Starts from the current end of the log; anything older is already in the database
+     * this instance reads on a cache miss.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (enabled) {
+            watermark = changeLog.latestSeq();
+            lastSuccess = System.nanoTime();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${blogposts.cache.coherence.poll-interval:1s}",
+            initialDelayString = "${blogposts.cache.coherence.poll-interval:1s}")
+    public synchronized void poll() {
+        if (watermark < 0) {
+            return;
+        }
+        evictAgain.forEach(blogPostCache::evict);
+        Set<Long> evicted = new HashSet<>();
+        try {
+            List<BlogPostChange> rows;
+            long next;
+            do {
+                rows = changeLog.readUnsettled(watermark, PAGE_SIZE);
+                for (BlogPostChange change : rows) {
+                    if (!changeLog.instanceId().equals(change.getOrigin()) && evicted.add(change.getPostId())) {
+                        blogPostCache.evict(change.getPostId());
+                        invalidations.increment();
+                    }
+                }
+                next = changeLog.settle(watermark, rows).next();
+                watermark = next;
+            } while (rows.size() == PAGE_SIZE && next == rows.get(rows.size() - 1).getSeq());
+            lastSuccess = System.nanoTime();
+        } catch (RuntimeException e) {
+            log.warn("Reading the change log for cache invalidation failed", e);
+        } finally {
+            evictAgain = evicted;
+        }
+        if (System.nanoTime() - lastSuccess > maxStalenessNanos) {
+            log.warn("Change log not read for over {} ms; clearing the post cache",
+                    maxStalenessNanos / 1_000_000);
+            blogPostCache.clear();
+            clears.increment();
+        }
+    }
+
+    /**
+     * Returns the last change log sequence this instance has fully processed.
+     */
+    public long watermark() {
+        return watermark;
+    }
+}
@@ -0,0 +1,339 @@
+package io.github.kashish5567.blogpostmanager.cache;
+
+import io.github.kashish5567.blogpostmanager.changes.ChangeLog;
+import io.github.kashish5567.blogpostmanager.model.BlogPost;
+import io.github.kashish5567.blogpostmanager.model.ChangeType;
+import io.github.kashish5567.blogpostmanager.repository.BlogPostContentStore;
+import io.github.kashish5567.blogpostmanager.repository.BlogPostRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.context.WebServerGracefulShutdownLifecycle;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * Optional write-behind buffer for content updates, enabled with {@code blogposts.write-behind.enabled}.
+ * <p>
+ * Editors autosave, so the same post's content is replaced many times per second. While the
+ * buffer is enabled, each content update only replaces the pending value for that post; the
+ * latest value is written to the database every {@code blogposts.write-behind.flush-interval},
+ * or sooner once {@code blogposts.write-behind.max-pending} posts are waiting. A burst of
+ * edits to one post therefore costs one {@code UPDATE} per interval instead of one per edit.
+ * <p>
+ * Every buffered edit still counts as a new version: a pending entry carries the version the
+ * post will have once it is flushed, and the flush sets exactly that version. Reads overlay
+ * pending entries with {@link #overlay(BlogPost)}, so clients see their own writes and get
+ * a fresh ETag for each of them. A pending entry is only removed after its value has been
+ * committed and the flushed post handed to the {@link #onFlush(Consumer) flush listener}, which
+ * refreshes the cache and the other local views, so there is no window in which a read falls
+ * back to the old content.
+ * <p>
+ * Every other write to a post must call {@link #flush(long)} first, and deletes must call
+ * {@link #discard(long)}, so that buffered content is never applied on top of a newer change.
+ * Pending writes are flushed when the application shuts down gracefully. The buffer stops after
+ * the web server, so requests still in flight during graceful shutdown are buffered and then
+ * flushed; any edit that arrives once the buffer has stopped is written straight through. A
+ * crash loses at most one flush interval of edits.
+ * <p>
+ * Queue depth, edits, database writes and flush lag (time from an entry's first edit until it
+ * is durable) are published as {@code blogposts.write-behind.*} meters.
+ */
+@Component
+public class BlogPostWriteBuffer implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(BlogPostWriteBuffer.class);
+
+    private final BlogPostRepository blogPostRepository;
+    private final BlogPostContentStore contentStore;
+    private final ChangeLog changeLog;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final Duration flushInterval;
+    private final int maxPending;
+    private final int chunkSize;
+
+    private final Map<Long, PendingWrite> pending = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private final Counter edits;
+    private final Counter writes;
+    private final Timer flushLag;
+
+    private volatile Consumer<BlogPost> flushListener;
+    private volatile ScheduledExecutorService flusher;
+    private volatile boolean accepting;
+
+    public BlogPostWriteBuffer(BlogPostRepository blogPostRepository, BlogPostContentStore contentStore,
+                               BlogPostCache blogPostCache, ChangeLog changeLog,
+                               TransactionTemplate transactionTemplate, MeterRegistry meterRegistry,
+                               @Value("${blogposts.write-behind.enabled:false}") boolean enabled,
+                               @Value("${blogposts.write-behind.flush-interval:500ms}") Duration flushInterval,
+                               @Value("${blogposts.write-behind.max-pending:1000}") int maxPending,
+                               @Value("${blogposts.batch.chunk-size:50}") int chunkSize) {
+        this.blogPostRepository = blogPostRepository;
+        this.contentStore = contentStore;
+        this.flushListener = blogPostCache::put;
+        this.changeLog = changeLog;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.flushInterval = flushInterval;
+        this.maxPending = maxPending;
+        this.chunkSize = chunkSize;
+
+        Gauge.builder("blogposts.write-behind.pending", pending, Map::size)
+                .description("Posts with content updates waiting to be written")
+                .register(meterRegistry);
+        this.edits = Counter.builder("blogposts.write-behind.edits")
+                .description("Content updates accepted into the write-behind buffer")
+                .register(meterRegistry);
+        this.writes = Counter.builder("blogposts.write-behind.writes")
+                .description("Rows written to the database by write-behind flushes")
+                .register(meterRegistry);
+        this.flushLag = Timer.builder("blogposts.write-behind.flush.lag")
+                .description("Time from a post's first buffered edit until its content is durable")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    /**
+     * Whether content updates should be buffered: the buffer is enabled and has not stopped.
+     */
+    public boolean isEnabled() {
+        return enabled && accepting;
+    }
+
+    /**
+     * Buffers new content for a post.
+     *
+     * @param current the current state of the post, as returned by a read
+     * @param content the new content
+     * @return a copy of the post with the new content and the version it will have once flushed
+     */
+    public BlogPost write(BlogPost current, String content) {
+        long now = System.nanoTime();
+        PendingWrite write = pending.compute(current.getId(), (id, previous) -> previous == null
+                ? new PendingWrite(content, current.getVersion() + 1, now)
+                : new PendingWrite(content, Math.max(previous.version(), current.getVersion()) + 1, previous.queuedAt()));
+        edits.increment();
+        if (!accepting) {
+            // Stopped after the caller checked isEnabled(); the final flush may have missed this edit
+            flush(current.getId());
+            return withContent(current, write);
+        }
+        if (pending.size() >= maxPending && flusher != null && flushRequested.compareAndSet(false, true)) {
+            flusher.execute(this::flushAll);
+        }
+        return withContent(current, write);
+    }
+
+    /**
+     * Applies any pending content to a post read from the cache or the database.
+     *
+     * @param post the committed state of the post
+     * @return the post itself if nothing is pending for it, otherwise a copy with the pending content
+     */
+    public BlogPost overlay(BlogPost post) {
+        if (pending.isEmpty()) {
+            return post;
+        }
+        PendingWrite write = pending.get(post.getId());
+        if (write == null || write.version() <= post.getVersion()) {
+            return post;
+        }
+        return withContent(post, write);
+    }
+
+    /**
+     * Sets what happens to each post once its buffered content is committed. By default the post
+     * is only put in the cache; the service replaces that with the same refresh its own writes
+     * get, so the search index, feed and derived fields follow flushed edits too.
+     *
+     * @param listener receives the committed state of each flushed post
+     */
+    public void onFlush(Consumer<BlogPost> listener) {
+        this.flushListener = listener;
+    }
+
+    /**
+     * Writes any pending content for the given posts to the database before returning.
+     *
+     * @param ids the IDs of the posts about to be changed by another write path
+     */
+    public void flush(Collection<Long> ids) {
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<Long> waiting = ids.stream().filter(pending::containsKey).toList();
+        if (!waiting.isEmpty()) {
+            flushLock.lock();
+            try {
+                drain(waiting);
+            } finally {
+                flushLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Writes any pending content for the given post to the database before returning.
+     *
+     * @param id the ID of the post about to be changed by another write path
+     */
+    public void flush(long id) {
+        flush(List.of(id));
+    }
+
+    /**
+     * Drops pending content for a post that is being deleted.
+     *
+     * @param id the ID of the post
+     */
+    public void discard(long id) {
+        pending.remove(id);
+    }
+
+    /**
+     * Writes all pending content to the database.
+     */
+    public void flushAll() {
+        flushRequested.set(false);
+        if (pending.isEmpty()) {
+            return;
+        }
+        flushLock.lock();
+        try {
+            drain(List.copyOf(pending.keySet()));
+        } catch (DataAccessException e) {
+            // Entries stay pending and are retried on the next interval
+            log.warn("Write-behind flush of {} posts failed", pending.size(), e);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Writes the given posts' pending content in chunks, one transaction per chunk. Must be
+     * called while holding {@link #flushLock}, so that an older value can never be written
+     * after a newer one.
+     */
+    private void drain(List<Long> ids) {
+        for (int start = 0; start < ids.size(); start += chunkSize) {
+            Map<Long, PendingWrite> chunk = new LinkedHashMap<>();
+            for (Long id : ids.subList(start, Math.min(start + chunkSize, ids.size()))) {
+                PendingWrite write = pending.get(id);
+                if (write != null) {
+                    chunk.put(id, write);
+                }
+            }
+            if (chunk.isEmpty()) {
+                continue;
+            }
+            transactionTemplate.executeWithoutResult(status -> chunk.forEach((id, write) -> {
+                if (blogPostRepository.advanceVersion(id, write.version()) > 0) {
+                    contentStore.replace(id, write.content());
+                    changeLog.record(id, ChangeType.UPDATED);
+                }
+            }));
+            for (BlogPost post : blogPostRepository.findAllById(chunk.keySet())) {
+                post.setContent(chunk.get(post.getId()).content());
+                flushListener.accept(post);
+            }
+
+            long now = System.nanoTime();
+            chunk.forEach((id, write) -> {
+                // A newer edit that arrived during the flush keeps its entry for the next one
+                pending.remove(id, write);
+                flushLag.record(now - write.queuedAt(), TimeUnit.NANOSECONDS);
+            });
+            writes.increment(chunk.size());
+        }
+    }
+
+    private static BlogPost withContent(BlogPost post, PendingWrite write) {
+        BlogPost copy = post.copy();
+        copy.setContent(write.content());
+        copy.setVersion(write.version());
+        return copy;
+    }
+
+    @Override
+    public void start() {
+        if (enabled && flusher == null) {
+            accepting = true;
+            flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "blogpost-write-behind");
+                thread.setDaemon(true);
+                return thread;
+            });
+            long intervalMillis = flushInterval.toMillis();
+            flusher.scheduleWithFixedDelay(this::flushAll, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Stops buffering, stops the background flusher and writes everything still pending. Runs
+     * after the web server has stopped and before the data source is closed, so a graceful
+     * shutdown never loses buffered edits.
+     */
+    @Override
+    public void stop() {
+        accepting = false;
+        if (flusher != null) {
+            flusher.shutdown();
+            try {
+                flusher.awaitTermination(flushInterval.toMillis() + 5_000, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            flusher = null;
+        }
+        flushAll();
+        if (!pending.isEmpty()) {
+            log.error("Write-behind buffer stopped with {} unwritten posts: {}", pending.size(), pending.keySet());
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return flusher != null;
+    }
+
+    /**
+     * Stops after the web server, which itself stops after graceful shutdown has let in-flight
+     * requests finish.
+     */
+    @Override
+    public int getPhase() {
+        return WebServerGracefulShutdownLifecycle.SMART_LIFECYCLE_PHASE - 2048;
+    }
+
+    /**
+     * Latest buffered content for one post.
+     *
+     * @param content the content to write
+     * @param version the version the post will have once this content is written
+     * @param queuedAt {@link System#nanoTime()} of the first edit since the last flush
+     */
+    private record PendingWrite(String content, long version, long queuedAt) {
+    }
+}
@@ -0,0 +1,308 @@
+package io.github.kashish5567.blogpostmanager.changes;
+
+import io.github.kashish5567.blogpostmanager.model.BlogPostChange;
+import io.github.kashish5567.blogpostmanager.model.ChangePage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Pushes change log entries to Server-Sent Events subscribers.
+ * <p>
+ * One poller thread reads new entries from the {@link ChangeLog} every
+ * {@code blogposts.changes.poll-interval} and hands them to every subscriber. Because it reads
+ * the shared log, subscribers see writes from all instances. Subscribers hold no thread while
+ * idle. Queued entries are written on a virtual thread per busy subscriber, so a client on a
+ * slow connection only holds up itself. A subscriber whose current write has not completed
+ * within {@code blogposts.changes.send-timeout} is disconnected.
+ * <p>
+ * Each subscriber buffers at most {@code blogposts.changes.buffer-size} entries. A subscriber
+ * that falls further behind is disconnected instead of buffering more. Its client reconnects
+ * with {@code Last-Event-ID} and catches up from the log at its own pace. A new or reconnecting
+ * subscriber first reads the log from its starting sequence, then switches to live entries.
+ * If that sequence has already been pruned, it is sent a {@code resync} event first. Every
+ * entry is sent at most once per connection, in sequence order.
+ */
+@Component
+public class ChangeFeedBroadcaster implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(ChangeFeedBroadcaster.class);
+
+    private static final int PAGE_SIZE = 500;
+
+    private final ChangeLog changeLog;
+    private final Duration pollInterval;
+    private final Duration timeout;
+    private final int bufferSize;
+    private final long sendTimeoutNanos;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final Counter delivered;
+    private final Counter disconnected;
+    private final Counter timedOut;
+
+    private volatile long cursor;
+    private volatile boolean running;
+    private ScheduledExecutorService poller;
+    private ExecutorService senders;
+
+    public ChangeFeedBroadcaster(ChangeLog changeLog, MeterRegistry meterRegistry,
+                                 @Value("${blogposts.changes.poll-interval:500ms}") Duration pollInterval,
+                                 @Value("${blogposts.changes.sse-timeout:30m}") Duration timeout,
+                                 @Value("${blogposts.changes.buffer-size:1000}") int bufferSize,
+                                 @Value("${blogposts.changes.send-timeout:5s}") Duration sendTimeout) {
+        this.changeLog = changeLog;
+        this.pollInterval = pollInterval;
+        this.timeout = timeout;
+        this.bufferSize = bufferSize;
+        this.sendTimeoutNanos = sendTimeout.toNanos();
+
+        Gauge.builder("blogposts.changes.subscribers", subscribers, Set::size)
+                .description("Connected change feed subscribers")
+                .register(meterRegistry);
+        this.delivered = Counter.builder("blogposts.changes.delivered")
+                .description("Change log entries sent to subscribers")
+                .register(meterRegistry);
+        this.disconnected = Counter.builder("blogposts.changes.overflows")
+                .description("Subscribers disconnected because they fell behind by more than the buffer size")
+                .register(meterRegistry);
+        this.timedOut = Counter.builder("blogposts.changes.send-timeouts")
+                .description("Subscribers disconnected because a write to them took longer than the send timeout")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Opens a subscription.
+     *
+     * @param since the last sequence the client has seen, or null to receive only new changes
+     * @return the event stream
+     */
+    public SseEmitter subscribe(Long since) {
+        if (!running) {
+            throw new IllegalStateException("The change feed is not running");
+        }
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        Subscriber subscriber = new Subscriber(emitter, since == null ? cursor : since);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(error -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+        subscriber.schedule();
+        return emitter;
+    }
+
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    private void poll() {
+        disconnectStalled();
+        try {
+            while (running) {
+                ChangePage page = changeLog.read(cursor, PAGE_SIZE);
+                if (page.changes().isEmpty()) {
+                    return;
+                }
+                cursor = page.next();
+                for (Subscriber subscriber : subscribers) {
+                    subscriber.offer(page.changes());
+                }
+                if (page.changes().size() < PAGE_SIZE) {
+                    return;
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("Polling the change log failed", e);
+        }
+    }
+
+    /**
+     * Disconnects subscribers whose current write has been blocked for longer than the send
+     * timeout. Their sender thread stays blocked until the connection fails, but no further
+     * entries are queued for them.
+     */
+    private void disconnectStalled() {
+        long now = System.nanoTime();
+        for (Subscriber subscriber : subscribers) {
+            long started = subscriber.sendStartedAt;
+            if (started != 0 && now - started > sendTimeoutNanos) {
+                timedOut.increment();
+                subscriber.close();
+            }
+        }
+    }
+
+    @Override
+    public void start() {
+        if (running) {
+            return;
+        }
+        cursor = changeLog.latestSeq();
+        running = true;
+        senders = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("blogpost-changes-sender-", 1).factory());
+        poller = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "blogpost-changes-poller");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = pollInterval.toMillis();
+        poller.scheduleWithFixedDelay(this::poll, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops polling and closes every subscription; clients reconnect to another instance.
+     */
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        poller.shutdownNow();
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        subscribers.clear();
+        senders.shutdownNow();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * One connected client. At most one sender thread works on a subscriber at a time,
+     * guarded by {@link #scheduled}, so its entries are sent in order.
+     */
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final BlockingQueue<BlogPostChange> buffer = new ArrayBlockingQueue<>(bufferSize);
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private volatile boolean catchingUp = true;
+        private volatile boolean closed;
+        private volatile long sendStartedAt;
+        private long lastSent;
+
+        Subscriber(SseEmitter emitter, long since) {
+            this.emitter = emitter;
+            this.lastSent = since;
+        }
+
+        /**
+         * Queues live entries. Ignored while catching up, since the catch-up reads them from
+         * the log anyway.
+         */
+        void offer(List<BlogPostChange> changes) {
+            if (catchingUp || closed) {
+                return;
+            }
+            for (BlogPostChange change : changes) {
+                if (!buffer.offer(change)) {
+                    disconnected.increment();
+                    close();
+                    return;
+                }
+            }
+            schedule();
+        }
+
+        void schedule() {
+            if (!closed && scheduled.compareAndSet(false, true)) {
+                senders.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                if (catchingUp) {
+                    if (changeLog.isPruned(lastSent)) {
+                        sendTimed(SseEmitter.event().name("resync").data(lastSent));
+                    }
+                    sendFromLog();
+                    // Entries the poller skipped before this point are in the log; read it once more
+                    catchingUp = false;
+                    sendFromLog();
+                }
+                BlogPostChange change;
+                while (!closed && (change = buffer.poll()) != null) {
+                    send(change);
+                }
+            } catch (IOException | RuntimeException e) {
+                close();
+            } finally {
+                scheduled.set(false);
+            }
+            if (!buffer.isEmpty()) {
+                schedule();
+            }
+        }
+
+        private void sendFromLog() throws IOException {
+            while (!closed) {
+                ChangePage page = changeLog.read(lastSent, PAGE_SIZE);
+                for (BlogPostChange change : page.changes()) {
+                    send(change);
+                }
+                if (page.changes().size() < PAGE_SIZE) {
+                    return;
+                }
+            }
+        }
+
+        private void send(BlogPostChange change) throws IOException {
+            if (change.getSeq() <= lastSent) {
+                return;
+            }
+            sendTimed(SseEmitter.event()
+                    .id(Long.toString(change.getSeq()))
+                    .name(change.getType().name())
+                    .data(change, MediaType.APPLICATION_JSON));
+            lastSent = change.getSeq();
+            delivered.increment();
+        }
+
+        private void sendTimed(SseEmitter.SseEventBuilder event) throws IOException {
+            sendStartedAt = System.nanoTime();
+            try {
+                emitter.send(event);
+            } finally {
+                sendStartedAt = 0;
+            }
+        }
+
+        private void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            buffer.clear();
+            subscribers.remove(this);
+            if (sendStartedAt == 0) {
+                emitter.complete();
+            } else {
+                // Completing waits for the blocked write to finish; do not hold up the caller
+                Thread.startVirtualThread(emitter::complete);
+            }
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package io.github.kashish5567.blogpostmanager.changes;
+
+import io.github.kashish5567.blogpostmanager.model.BlogPostChange;
+import io.github.kashish5567.blogpostmanager.model.ChangePage;
+import io.github.kashish5567.blogpostmanager.model.ChangeType;
+import io.github.kashish5567.blogpostmanager.repository.BlogPostChangeRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Append-only log of writes to blog posts, so downstream consumers can ask what changed since
+ * the last sequence they saw instead of diffing the full list.
+ * <p>
+ * Write paths call {@link #record(long, ChangeType)} inside the transaction that makes the
+ * change, so an entry exists exactly when its write committed.
+ * <p>
+ * Sequences come from an auto-increment column. They are handed out at insert time, but
+ * transactions can commit in a different order, so a reader may briefly see sequence 12
+ * before sequence 11 is visible. {@link #read(long, int)} therefore stops at a gap until the
+ * entry after it is older than {@code blogposts.changes.settle-time}. After that the missing
+ * sequence is assumed to belong to a rolled-back transaction and is skipped. The settle time
+ * must exceed the longest write transaction, or a consumer may miss the slow one. Entries are
+ * timestamped by the database and their age is measured against the database clock, so clock
+ * skew between instances cannot settle a gap early.
+ * <p>
+ * Entries older than {@code blogposts.changes.retention} are pruned. A consumer that falls
+ * further behind than that must resynchronize from the full list; {@link #isPruned(long)}
+ * tells it so.
+ */
+@Component
+public class ChangeLog {
+
+    private static final Logger log = LoggerFactory.getLogger(ChangeLog.class);
+
+    private final BlogPostChangeRepository changeRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final Duration settleTime;
+    private final Duration retention;
+    private final String instanceId;
+    private final MeterRegistry meterRegistry;
+
+    public ChangeLog(BlogPostChangeRepository changeRepository, JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry,
+                     @Value("${blogposts.changes.settle-time:5s}") Duration settleTime,
+                     @Value("${blogposts.changes.retention:7d}") Duration retention,
+                     @Value("${blogposts.instance-id:${random.uuid}}") String instanceId) {
+        this.changeRepository = changeRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.meterRegistry = meterRegistry;
+        this.settleTime = settleTime;
+        this.retention = retention;
+        this.instanceId = instanceId;
+    }
+
+    /**
+     * Returns the ID this instance stamps on the changes it records.
+     */
+    public String instanceId() {
+        return instanceId;
+    }
+
+    /**
+     * Appends an entry. Must be called inside the transaction that makes the change.
+     *
+     * @param postId the ID of the changed post
+     * @param type what happened to it
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(long postId, ChangeType type) {
+        changeRepository.save(new BlogPostChange(postId, type, instanceId));
+        meterRegistry.counter("blogposts.changes.recorded", "type", type.name()).increment();
+    }
+
+    /**
+     * Returns the committed changes after a sequence, oldest first, stopping at a gap that
+     * may still be filled by a transaction in flight.
+     *
+     * @param since the last sequence already seen, or 0 for the start of the log
+     * @param limit the maximum number of changes to return
+     * @return the changes and the sequence to continue from
+     */
+    public ChangePage read(long since, int limit) {
+        return settle(since, readUnsettled(since, limit));
+    }
+
+    /**
+     * Returns every change visible after a sequence, oldest first, including those beyond a
+     * gap that may still be filled. For consumers that can safely see a change twice, such as
+     * cache invalidation, and want it as early as possible.
+     *
+     * @param since the last sequence already seen, or 0 for the start of the log
+     * @param limit the maximum number of changes to return
+     * @return the visible changes
+     */
+    public List<BlogPostChange> readUnsettled(long since, int limit) {
+        return changeRepository.findAfter(since, PageRequest.of(0, limit));
+    }
+
+    /**
+     * Cuts a list returned by {@link #readUnsettled(long, int)} at the first gap that may
+     * still be filled.
+     *
+     * @param since the sequence the rows were read after
+     * @param rows the rows, oldest first
+     * @return the settled prefix and the sequence to continue from
+     */
+    public ChangePage settle(long since, List<BlogPostChange> rows) {
+        LocalDateTime settled = null;
+        List<BlogPostChange> changes = new ArrayList<>(rows.size());
+        long last = since;
+        for (BlogPostChange change : rows) {
+            if (change.getSeq() != last + 1 && last > 0) {
+                if (settled == null) {
+                    settled = databaseNow().minus(settleTime);
+                }
+                if (change.getChangedAt().isAfter(settled)) {
+                    break;
+                }
+            }
+            changes.add(change);
+            last = change.getSeq();
+        }
+        return new ChangePage(changes, last);
+    }
+
+    /**
+     * Whether entries after the given sequence may already have been pruned, in which case a
+     * consumer reading from it has missed changes. Call it after reading, so that a prune
+     * running in between is noticed rather than missed.
+     *
+     * @param since the last sequence the consumer has seen
+     */
+    public boolean isPruned(long since) {
+        long oldest = changeRepository.findOldestSeq();
+        return oldest > since + 1;
+    }
+
+    /**
+     * Returns the highest sequence recorded so far, or 0 if the log is empty.
+     */
+    public long latestSeq() {
+        return changeRepository.findLatestSeq();
+    }
+
+    /**
+     * Deletes entries older than the retention period.
+     */
+    @Scheduled(fixedDelayString = "${blogposts.changes.prune-interval:1h}",
+            initialDelayString = "${blogposts.changes.prune-interval:1h}")
+    public void prune() {
+        int deleted = changeRepository.deleteOlderThan(databaseNow().minus(retention));
+        if (deleted > 0) {
+            log.info("Pruned {} change log entries older than {}", deleted, retention);
+        }
+    }
+
+    /**
+     * Returns the database's current time, the clock that entries are stamped with.
+     */
+    private LocalDateTime databaseNow() {
+        return jdbcTemplate.queryForObject("SELECT LOCALTIMESTAMP(6)", LocalDateTime.class);
+    }
+}
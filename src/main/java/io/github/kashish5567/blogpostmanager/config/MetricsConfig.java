@@ -0,0 +1,41 @@
+package io.github.kashish5567.blogpostmanager.config;
+
+import io.github.kashish5567.blogpostmanager.feed.PublishedFeed;
+import io.github.kashish5567.blogpostmanager.search.BlogPostSearchIndex;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Micrometer setup beyond what Spring Boot configures on its own.
+ * <p>
+ * Boot already times every HTTP endpoint ({@code http.server.requests}), every repository
+ * method ({@code spring.data.repository.invocations}, tagged by method name) and the Hikari
+ * connection pool ({@code hikaricp.connections.*}). This adds the aspect behind
+ * {@link io.micrometer.core.annotation.Timed @Timed} service timers and a few application gauges.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+
+    @Bean
+    public MeterBinder searchIndexMetrics(BlogPostSearchIndex searchIndex) {
+        return registry -> Gauge.builder("blogposts.search.index.size", searchIndex, BlogPostSearchIndex::size)
+                .description("Number of posts in the full-text search index")
+                .register(registry);
+    }
+
+    @Bean
+    public MeterBinder publishedFeedMetrics(PublishedFeed publishedFeed) {
+        return registry -> Gauge.builder("blogposts.feed.size", publishedFeed, PublishedFeed::size)
+                .description("Number of posts in the in-memory published feed")
+                .register(registry);
+    }
+}
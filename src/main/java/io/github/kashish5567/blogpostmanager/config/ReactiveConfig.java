@@ -0,0 +1,33 @@
+package io.github.kashish5567.blogpostmanager.config;
+
+import io.github.kashish5567.blogpostmanager.service.BlockingReactiveBlogPostService;
+import io.github.kashish5567.blogpostmanager.service.BlogPostService;
+import io.github.kashish5567.blogpostmanager.service.InMemoryBlogPostService;
+import io.github.kashish5567.blogpostmanager.service.ReactiveBlogPostService;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Wires the reactive API to one of the blocking services.
+ * <p>
+ * {@code blogposts.reactive.delegate} names the {@link BlogPostService} bean to adapt. The
+ * database service runs on Reactor's bounded elastic scheduler; the in-memory service never
+ * blocks, so its calls run on the subscribing thread.
+ */
+@Configuration
+public class ReactiveConfig {
+
+    @Bean
+    public ReactiveBlogPostService reactiveBlogPostService(
+            BeanFactory beanFactory,
+            @Value("${blogposts.reactive.delegate:databaseBlogPostService}") String delegateName,
+            @Value("${blogposts.reactive.page-size:100}") int pageSize) {
+        BlogPostService delegate = beanFactory.getBean(delegateName, BlogPostService.class);
+        return new BlockingReactiveBlogPostService(delegate,
+                delegate instanceof InMemoryBlogPostService ? Schedulers.immediate() : Schedulers.boundedElastic(),
+                pageSize);
+    }
+}
@@ -0,0 +1,33 @@
+package io.github.kashish5567.blogpostmanager.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Binary representations of every response and request body, chosen through content negotiation.
+ * <p>
+ * JSON stays the default. Internal callers that send {@code Accept: application/x-jackson-smile}
+ * or {@code Accept: application/cbor} get the same documents in a binary encoding, which is
+ * smaller and cheaper to produce and parse. Both mappers come from Boot's
+ * {@link Jackson2ObjectMapperBuilder}, so they share the JSON mapper's modules and date handling.
+ * <p>
+ * Gzip for JSON responses is configured separately with {@code server.compression.*}.
+ */
+@Configuration
+public class SerializationConfig {
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+}
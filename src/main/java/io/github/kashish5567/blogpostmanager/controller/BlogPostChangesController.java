@@ -0,0 +1,58 @@
+package io.github.kashish5567.blogpostmanager.controller;
+
+import io.github.kashish5567.blogpostmanager.changes.ChangeFeedBroadcaster;
+import io.github.kashish5567.blogpostmanager.changes.ChangeLog;
+import io.github.kashish5567.blogpostmanager.model.ChangePage;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Change feed for downstream consumers such as cache purgers and search indexers.
+ * <p>
+ * Pollers call {@code GET /api/blogposts/changes?since=N} with the {@code next} value of the
+ * previous response. If {@code resync} is true, entries after {@code since} have been pruned:
+ * the client must reload the full list and then continue from {@code next}. Streaming clients request {@code text/event-stream} and receive one event
+ * per change, named after its type, with the sequence as event ID. Browsers' automatic
+ * reconnects resume from {@code Last-Event-ID}.
+ */
+@RestController
+@RequestMapping("/api/blogposts/changes")
+@Validated
+public class BlogPostChangesController {
+
+    private final ChangeLog changeLog;
+    private final ChangeFeedBroadcaster broadcaster;
+
+    @Autowired
+    public BlogPostChangesController(ChangeLog changeLog, ChangeFeedBroadcaster broadcaster) {
+        this.changeLog = changeLog;
+        this.broadcaster = broadcaster;
+    }
+
+    @GetMapping
+    public ResponseEntity<ChangePage> getChanges(
+            @RequestParam(defaultValue = "0") @Min(0) long since,
+            @RequestParam(defaultValue = "100") @Min(1) @Max(1000) int limit
+    ) {
+        ChangePage page = changeLog.read(since, limit);
+        return ResponseEntity.ok(changeLog.isPruned(since) ? page.withResync() : page);
+    }
+
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges(
+            @RequestParam(required = false) @Min(0) Long since,
+            @RequestHeader(name = "Last-Event-ID", required = false) Long lastEventId
+    ) {
+        return broadcaster.subscribe(lastEventId != null ? lastEventId : since);
+    }
+}
@@ -1,18 +1,39 @@
 package io.github.kashish5567.blogpostmanager.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.github.kashish5567.blogpostmanager.model.BatchItemResult;
 import io.github.kashish5567.blogpostmanager.model.BlogPost;
+import io.github.kashish5567.blogpostmanager.model.BlogPostBatchUpdate;
+import io.github.kashish5567.blogpostmanager.model.BlogPostPage;
+import io.github.kashish5567.blogpostmanager.model.BlogPostSummary;
+import io.github.kashish5567.blogpostmanager.exception.VersionConflictException;
+import io.github.kashish5567.blogpostmanager.search.BlogPostSearchHit;
 import io.github.kashish5567.blogpostmanager.service.BlogPostService;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.Size;
 import org.hibernate.validator.constraints.URL;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 @RestController
@@ -20,11 +41,16 @@ import java.util.List;
 @Validated
 public class BlogPostController {
 
+    private static final int MAX_BATCH_SIZE = 1000;
+
     private final BlogPostService blogPostService;
+    private final ObjectWriter blogPostWriter;
 
     @Autowired
-    public BlogPostController(@Qualifier("databaseBlogPostService") BlogPostService blogPostService) {
+    public BlogPostController(@Qualifier("databaseBlogPostService") BlogPostService blogPostService,
+                              ObjectMapper objectMapper) {
         this.blogPostService = blogPostService;
+        this.blogPostWriter = objectMapper.writerFor(BlogPost.class);
     }
 
     @PostMapping
@@ -33,64 +59,151 @@ public class BlogPostController {
         return new ResponseEntity<>(savedPost, HttpStatus.CREATED);
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<List<BatchItemResult>> createBlogPosts(
+            @RequestBody @Size(min = 1, max = MAX_BATCH_SIZE) List<BlogPost> blogPosts
+    ) {
+        List<BatchItemResult> results = blogPostService.createBlogPosts(blogPosts);
+        return ResponseEntity.ok(results);
+    }
+
+    @PutMapping("/batch")
+    public ResponseEntity<List<BatchItemResult>> updateBlogPosts(
+            @RequestBody @Size(min = 1, max = MAX_BATCH_SIZE) List<@Valid BlogPostBatchUpdate> updates
+    ) {
+        List<BatchItemResult> results = blogPostService.updateBlogPosts(updates);
+        return ResponseEntity.ok(results);
+    }
+
+    @DeleteMapping("/batch")
+    public ResponseEntity<List<BatchItemResult>> deleteBlogPosts(
+            @RequestParam @Size(min = 1, max = MAX_BATCH_SIZE) List<Long> ids
+    ) {
+        List<BatchItemResult> results = blogPostService.deleteBlogPosts(ids);
+        return ResponseEntity.ok(results);
+    }
+
     @GetMapping
-    public ResponseEntity<List<BlogPost>> getAllBlogPosts() {
-        List<BlogPost> posts = blogPostService.getAllBlogPosts();
+    public ResponseEntity<BlogPostPage> getAllBlogPosts(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size
+    ) {
+        BlogPostPage page = blogPostService.getBlogPostPage(cursor, size);
+        return ResponseEntity.ok(page);
+    }
+
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllBlogPosts() {
+        StreamingResponseBody body = outputStream -> {
+            OutputStream out = new BufferedOutputStream(outputStream);
+            blogPostService.forEachBlogPost(post -> writeLine(out, post));
+            out.flush();
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    @GetMapping("/byAuthor")
+    public ResponseEntity<List<BlogPostSummary>> getBlogPostsByAuthor(@RequestParam String author) {
+        List<BlogPostSummary> posts = blogPostService.getBlogPostSummariesByAuthor(author);
+        return ResponseEntity.ok(posts);
+    }
+
+    @GetMapping("/published")
+    public ResponseEntity<List<BlogPostSummary>> getPublishedBlogPosts() {
+        List<BlogPostSummary> posts = blogPostService.getPublishedBlogPostSummaries();
         return ResponseEntity.ok(posts);
     }
 
+    @GetMapping("/feed")
+    public ResponseEntity<BlogPostPage> getPublishedFeed(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size
+    ) {
+        BlogPostPage page = blogPostService.getPublishedBlogPostPage(cursor, size);
+        return ResponseEntity.ok(page);
+    }
+
+    @GetMapping("/byDateRange")
+    public ResponseEntity<List<BlogPostSummary>> getBlogPostsInDateRange(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime start,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end
+    ) {
+        List<BlogPostSummary> posts = blogPostService.getBlogPostSummariesInDateRange(start, end);
+        return ResponseEntity.ok(posts);
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<List<BlogPostSearchHit>> searchBlogPosts(
+            @RequestParam @NotBlank @Size(max = 200) String q,
+            @RequestParam(defaultValue = "10") @Min(1) @Max(50) int limit
+    ) {
+        List<BlogPostSearchHit> hits = blogPostService.searchBlogPosts(q, limit);
+        return ResponseEntity.ok(hits);
+    }
+
+    /**
+     * Returns a post with its version as ETag. Spring answers a matching {@code If-None-Match}
+     * with 304 Not Modified and skips serializing the body. See {@link #withETag(BlogPost)}.
+     */
     @GetMapping("/{id}")
     public ResponseEntity<BlogPost> getBlogPostById(@PathVariable @Positive long id) {
         BlogPost post = blogPostService.getBlogPostById(id);
-        return ResponseEntity.ok(post);
+        return withETag(post);
     }
 
     @GetMapping("/byTitle")
     public ResponseEntity<BlogPost> getBlogPostByTitle(@RequestParam String title) {
         BlogPost post = blogPostService.getBlogPostByTitle(title);
-        return ResponseEntity.ok(post);
+        return withETag(post);
     }
 
     @PutMapping("/{id}/content")
     public ResponseEntity<BlogPost> updateContent(
             @PathVariable @Positive long id,
-            @RequestParam @Size(min = 10, max = 10000) String newContent
+            @RequestParam @Size(min = 10, max = 10000) String newContent,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
     ) {
-        BlogPost post = blogPostService.updateBlogPostContent(id, newContent);
-        return ResponseEntity.ok(post);
+        BlogPost post = blogPostService.updateBlogPostContent(id, newContent, expectedVersion(id, ifMatch));
+        return withETag(post);
     }
 
     @PutMapping("/{id}/title")
     public ResponseEntity<BlogPost> updateTitle(
             @PathVariable @Positive long id,
-            @RequestParam @Size(min = 5, max = 100) String newTitle
+            @RequestParam @Size(min = 5, max = 100) String newTitle,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
     ) {
-        BlogPost post = blogPostService.updateBlogPostTitle(id, newTitle);
-        return ResponseEntity.ok(post);
+        BlogPost post = blogPostService.updateBlogPostTitle(id, newTitle, expectedVersion(id, ifMatch));
+        return withETag(post);
     }
 
     @PutMapping("/{id}/author")
     public ResponseEntity<BlogPost> updateAuthor(
             @PathVariable @Positive long id,
-            @RequestParam @Size(min = 3, max = 50) String newAuthor
+            @RequestParam @Size(min = 3, max = 50) String newAuthor,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
     ) {
-        BlogPost post = blogPostService.updateBlogPostAuthor(id, newAuthor);
-        return ResponseEntity.ok(post);
+        BlogPost post = blogPostService.updateBlogPostAuthor(id, newAuthor, expectedVersion(id, ifMatch));
+        return withETag(post);
     }
 
     @PutMapping("/{id}/coverImage")
     public ResponseEntity<BlogPost> updateCoverImage(
             @PathVariable @Positive long id,
-            @RequestParam @URL String newCoverImageUrl
+            @RequestParam @URL String newCoverImageUrl,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
     ) {
-        BlogPost post = blogPostService.updateBlogPostCoverImage(id, newCoverImageUrl);
-        return ResponseEntity.ok(post);
+        BlogPost post = blogPostService.updateBlogPostCoverImage(id, newCoverImageUrl, expectedVersion(id, ifMatch));
+        return withETag(post);
     }
 
     @PutMapping("/{id}/togglePublish")
-    public ResponseEntity<BlogPost> togglePublishStatus(@PathVariable @Positive long id) {
-        BlogPost post = blogPostService.togglePublishStatus(id);
-        return ResponseEntity.ok(post);
+    public ResponseEntity<BlogPost> togglePublishStatus(
+            @PathVariable @Positive long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
+    ) {
+        BlogPost post = blogPostService.togglePublishStatus(id, expectedVersion(id, ifMatch));
+        return withETag(post);
     }
 
     @DeleteMapping("/{id}")
@@ -101,5 +214,80 @@ public class BlogPostController {
         }
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body("Blog post not found");
     }
-}
 
+    private void writeLine(OutputStream out, BlogPost post) {
+        try {
+            out.write(blogPostWriter.writeValueAsBytes(post));
+            out.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Tags a post with {@code "<version>"}, or {@code "<version>-<derivedVersion>"} once its
+     * derived fields are computed. The derived fields are filled in without changing the
+     * version, so the ETag must also change with them for a cached copy to be replaced.
+     */
+    private static ResponseEntity<BlogPost> withETag(BlogPost post) {
+        String tag = post.getDerivedVersion() == null
+                ? Long.toString(post.getVersion())
+                : post.getVersion() + "-" + post.getDerivedVersion();
+        return ResponseEntity.ok().eTag(tag).body(post);
+    }
+
+    /**
+     * Reads the expected version from an {@code If-Match} header, which may list several tags.
+     * A single listed version is passed on as is, so the update itself checks it. When several
+     * are listed, the post's current version is used if it is one of them; the update then
+     * still fails if the post changes before it is applied.
+     *
+     * @return the version, or null if the header is absent or {@code *}
+     */
+    private Long expectedVersion(long id, String ifMatch) {
+        List<Long> versions = parseIfMatch(ifMatch);
+        if (versions.size() <= 1) {
+            return versions.isEmpty() ? null : versions.getFirst();
+        }
+        long current = blogPostService.getBlogPostById(id).getVersion();
+        if (!versions.contains(current)) {
+            throw new VersionConflictException("Blog post with ID " + id + " is at none of the versions in If-Match");
+        }
+        return current;
+    }
+
+    /**
+     * Reads the versions listed in an {@code If-Match} header. Only the version part of a
+     * {@code "<version>-<derivedVersion>"} tag is compared; derived fields never conflict.
+     * Weak tags are skipped, since If-Match only matches strong ones.
+     *
+     * @return the listed versions, or an empty list if the header is absent or {@code *}
+     */
+    private static List<Long> parseIfMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return List.of();
+        }
+        List<Long> versions = new ArrayList<>();
+        for (String listed : ifMatch.split(",")) {
+            String tag = listed.trim();
+            if (tag.startsWith("W/")) {
+                // If-Match uses strong comparison (RFC 9110, section 13.1.1): a weak tag never matches
+                continue;
+            }
+            tag = tag.replace("\"", "");
+            int derived = tag.indexOf('-');
+            if (derived > 0) {
+                tag = tag.substring(0, derived);
+            }
+            try {
+                versions.add(Long.parseLong(tag));
+            } catch (NumberFormatException e) {
+                // Not one of our tags, so it cannot match; another listed tag still may
+            }
+        }
+        if (versions.isEmpty()) {
+            throw new VersionConflictException("If-Match does not name a version of this blog post: " + ifMatch);
+        }
+        return versions;
+    }
+}
@@ -0,0 +1,57 @@
+package io.github.kashish5567.blogpostmanager.controller;
+
+import io.github.kashish5567.blogpostmanager.model.AuthorPostCount;
+import io.github.kashish5567.blogpostmanager.model.PeriodPostCount;
+import io.github.kashish5567.blogpostmanager.model.PublicationCounts;
+import io.github.kashish5567.blogpostmanager.model.StatsInterval;
+import io.github.kashish5567.blogpostmanager.service.BlogPostStatsService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Reporting endpoints. Dates are ISO days ({@code 2024-05-31}) and both ends are inclusive.
+ */
+@RestController
+@RequestMapping("/api/blogposts/stats")
+public class BlogPostStatsController {
+
+    private final BlogPostStatsService statsService;
+
+    @Autowired
+    public BlogPostStatsController(BlogPostStatsService statsService) {
+        this.statsService = statsService;
+    }
+
+    @GetMapping("/authors")
+    public ResponseEntity<List<AuthorPostCount>> getPostsPerAuthor(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        return ResponseEntity.ok(statsService.getPostsPerAuthor(from, to));
+    }
+
+    @GetMapping("/timeline")
+    public ResponseEntity<List<PeriodPostCount>> getPostsPerPeriod(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "DAY") StatsInterval interval
+    ) {
+        return ResponseEntity.ok(statsService.getPostsPerPeriod(from, to, interval));
+    }
+
+    @GetMapping("/publication")
+    public ResponseEntity<PublicationCounts> getPublicationCounts(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        return ResponseEntity.ok(statsService.getPublicationCounts(from, to));
+    }
+}
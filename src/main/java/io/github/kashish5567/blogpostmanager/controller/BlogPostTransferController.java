@@ -0,0 +1,63 @@
+package io.github.kashish5567.blogpostmanager.controller;
+
+import io.github.kashish5567.blogpostmanager.transfer.BlogPostTransferService;
+import io.github.kashish5567.blogpostmanager.transfer.ImportReport;
+import io.github.kashish5567.blogpostmanager.transfer.TransferFormat;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Locale;
+
+/**
+ * Bulk export and import of the whole blog, for backups and migrations.
+ * <p>
+ * Both endpoints stream, so they work for any number of posts. Select the format with
+ * {@code ?format=NDJSON} (the default) or {@code ?format=CSV}.
+ */
+@RestController
+@RequestMapping("/api/blogposts")
+public class BlogPostTransferController {
+
+    private final BlogPostTransferService transferService;
+
+    @Autowired
+    public BlogPostTransferController(BlogPostTransferService transferService) {
+        this.transferService = transferService;
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportBlogPosts(
+            @RequestParam(defaultValue = "NDJSON") TransferFormat format
+    ) {
+        StreamingResponseBody body = outputStream -> transferService.exportPosts(outputStream, format);
+        return ResponseEntity.ok()
+                .contentType(format.mediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"blogposts." + format.name().toLowerCase(Locale.ROOT) + "\"")
+                .body(body);
+    }
+
+    /**
+     * Imports posts from the request body. Posts whose title already exists are skipped,
+     * so the same file can be imported again safely.
+     */
+    @PostMapping("/import")
+    public ResponseEntity<ImportReport> importBlogPosts(
+            @RequestParam(defaultValue = "NDJSON") TransferFormat format,
+            HttpServletRequest request
+    ) throws IOException {
+        try (InputStream in = request.getInputStream()) {
+            return ResponseEntity.ok(transferService.importPosts(in, format));
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package io.github.kashish5567.blogpostmanager.controller;
+
+import io.github.kashish5567.blogpostmanager.exception.BlogPostNotFoundException;
+import io.github.kashish5567.blogpostmanager.model.BlogPost;
+import io.github.kashish5567.blogpostmanager.model.BlogPostSummary;
+import io.github.kashish5567.blogpostmanager.service.ReactiveBlogPostService;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import org.hibernate.validator.constraints.URL;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking variant of {@link BlogPostController}, served under {@code /api/reactive/blogposts}.
+ * <p>
+ * List endpoints produce {@code application/x-ndjson} and write each post as soon as it is
+ * available; the next database page is only fetched once the client has consumed the last one.
+ */
+@RestController
+@RequestMapping("/api/reactive/blogposts")
+@Validated
+public class ReactiveBlogPostController {
+
+    private final ReactiveBlogPostService blogPostService;
+
+    @Autowired
+    public ReactiveBlogPostController(ReactiveBlogPostService blogPostService) {
+        this.blogPostService = blogPostService;
+    }
+
+    @PostMapping
+    public Mono<ResponseEntity<BlogPost>> createBlogPost(@Valid @RequestBody BlogPost blogPost) {
+        return blogPostService.createBlogPost(blogPost)
+                .map(savedPost -> new ResponseEntity<>(savedPost, HttpStatus.CREATED));
+    }
+
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<BlogPostSummary> getAllBlogPosts() {
+        return blogPostService.getAllBlogPostSummaries();
+    }
+
+    @GetMapping(value = "/byAuthor", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<BlogPostSummary> getBlogPostsByAuthor(@RequestParam String author) {
+        return blogPostService.getBlogPostSummariesByAuthor(author);
+    }
+
+    @GetMapping(value = "/published", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<BlogPostSummary> getPublishedBlogPosts() {
+        return blogPostService.getPublishedBlogPostSummaries();
+    }
+
+    @GetMapping("/{id}")
+    public Mono<BlogPost> getBlogPostById(@PathVariable @Positive long id) {
+        return orNotFound(blogPostService.getBlogPostById(id), id);
+    }
+
+    @GetMapping("/byTitle")
+    public Mono<BlogPost> getBlogPostByTitle(@RequestParam String title) {
+        return blogPostService.getBlogPostByTitle(title)
+                .switchIfEmpty(Mono.error(() -> new BlogPostNotFoundException("Blog post with title '" + title + "' not found")));
+    }
+
+    @PutMapping("/{id}/content")
+    public Mono<BlogPost> updateContent(
+            @PathVariable @Positive long id,
+            @RequestParam @Size(min = 10, max = 10000) String newContent
+    ) {
+        return orNotFound(blogPostService.updateBlogPostContent(id, newContent), id);
+    }
+
+    @PutMapping("/{id}/title")
+    public Mono<BlogPost> updateTitle(
+            @PathVariable @Positive long id,
+            @RequestParam @Size(min = 5, max = 100) String newTitle
+    ) {
+        return orNotFound(blogPostService.updateBlogPostTitle(id, newTitle), id);
+    }
+
+    @PutMapping("/{id}/author")
+    public Mono<BlogPost> updateAuthor(
+            @PathVariable @Positive long id,
+            @RequestParam @Size(min = 3, max = 50) String newAuthor
+    ) {
+        return orNotFound(blogPostService.updateBlogPostAuthor(id, newAuthor), id);
+    }
+
+    @PutMapping("/{id}/coverImage")
+    public Mono<BlogPost> updateCoverImage(
+            @PathVariable @Positive long id,
+            @RequestParam @URL String newCoverImageUrl
+    ) {
+        return orNotFound(blogPostService.updateBlogPostCoverImage(id, newCoverImageUrl), id);
+    }
+
+    @PutMapping("/{id}/togglePublish")
+    public Mono<BlogPost> togglePublishStatus(@PathVariable @Positive long id) {
+        return orNotFound(blogPostService.togglePublishStatus(id), id);
+    }
+
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<String>> deleteBlogPost(@PathVariable @Positive long id) {
+        return blogPostService.deleteBlogPost(id)
+                .map(deleted -> deleted
+                        ? ResponseEntity.ok("Blog post deleted successfully")
+                        : ResponseEntity.status(HttpStatus.NOT_FOUND).body("Blog post not found"));
+    }
+
+    private static Mono<BlogPost> orNotFound(Mono<BlogPost> post, long id) {
+        return post.switchIfEmpty(Mono.error(() -> new BlogPostNotFoundException("Blog post with ID " + id + " not found")));
+    }
+}
@@ -0,0 +1,89 @@
+package io.github.kashish5567.blogpostmanager.derived;
+
+import io.github.kashish5567.blogpostmanager.model.DerivedContent;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Computes the {@link DerivedContent} of a post from its title and content. Pure and
+ * thread-safe.
+ */
+final class DerivedContentCalculator {
+
+    static final int MAX_SLUG_LENGTH = 120;
+    static final int MAX_EXCERPT_LENGTH = 320;
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern NON_ALPHANUMERIC = Pattern.compile("[^a-z0-9]+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final int excerptLength;
+    private final int wordsPerMinute;
+
+    /**
+     * @param excerptLength the maximum length of an excerpt in characters, ellipsis included
+     * @param wordsPerMinute the reading speed used to estimate reading time
+     */
+    DerivedContentCalculator(int excerptLength, int wordsPerMinute) {
+        this.excerptLength = Math.min(Math.max(excerptLength, 2), MAX_EXCERPT_LENGTH);
+        this.wordsPerMinute = Math.max(wordsPerMinute, 1);
+    }
+
+    DerivedContent compute(String title, String content) {
+        String text = WHITESPACE.matcher(content).replaceAll(" ").strip();
+        int words = countWords(text);
+        int minutes = Math.max(1, (words + wordsPerMinute - 1) / wordsPerMinute);
+        return new DerivedContent(slug(title), excerpt(text), words, minutes);
+    }
+
+    /**
+     * Lower-cases the title, strips accents and joins the remaining letters and digits with
+     * hyphens: {@code "Café & Crème, Part 2"} becomes {@code "cafe-creme-part-2"}.
+     */
+    static String slug(String title) {
+        String ascii = DIACRITICS.matcher(Normalizer.normalize(title, Normalizer.Form.NFD)).replaceAll("");
+        String slug = NON_ALPHANUMERIC.matcher(ascii.toLowerCase(Locale.ROOT)).replaceAll("-");
+        if (slug.length() > MAX_SLUG_LENGTH) {
+            slug = slug.substring(0, MAX_SLUG_LENGTH);
+        }
+        int start = 0;
+        int end = slug.length();
+        while (start < end && slug.charAt(start) == '-') {
+            start++;
+        }
+        while (end > start && slug.charAt(end - 1) == '-') {
+            end--;
+        }
+        return slug.substring(start, end);
+    }
+
+    /**
+     * Returns the whitespace-normalized text if it fits, otherwise its longest prefix that ends
+     * at a word boundary followed by an ellipsis.
+     */
+    private String excerpt(String text) {
+        if (text.length() <= excerptLength) {
+            return text;
+        }
+        int cut = text.lastIndexOf(' ', excerptLength - 1);
+        if (cut <= 0) {
+            cut = excerptLength - 1;
+        }
+        return text.substring(0, cut).stripTrailing() + "…";
+    }
+
+    private static int countWords(String text) {
+        if (text.isEmpty()) {
+            return 0;
+        }
+        int words = 1;
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) == ' ') {
+                words++;
+            }
+        }
+        return words;
+    }
+}
@@ -0,0 +1,327 @@
+package io.github.kashish5567.blogpostmanager.derived;
+
+import io.github.kashish5567.blogpostmanager.cache.BlogPostCache;
+import io.github.kashish5567.blogpostmanager.feed.PublishedFeed;
+import io.github.kashish5567.blogpostmanager.model.BlogPost;
+import io.github.kashish5567.blogpostmanager.model.BlogPostContent;
+import io.github.kashish5567.blogpostmanager.model.DerivedContent;
+import io.github.kashish5567.blogpostmanager.repository.BlogPostContentStore;
+import io.github.kashish5567.blogpostmanager.repository.BlogPostRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Background pipeline that computes each post's {@link DerivedContent} (slug, excerpt, word
+ * count and reading time) and stores it in the post's row, so list responses can carry it
+ * without the full content.
+ * <p>
+ * Write paths call {@link #submit(long)} once their change is committed. Submitting never
+ * blocks and never touches the database: the post ID is offered to a queue of at most
+ * {@code blogposts.derived.queue-capacity} entries, and an ID that is already waiting is not
+ * queued twice. If the queue is full the ID is dropped, and write latency is unaffected.
+ * <p>
+ * {@code blogposts.derived.workers} threads take IDs off the queue in batches of up to
+ * {@code blogposts.derived.batch-size}. Each batch loads its posts and bodies with one query
+ * each and stores the results in one transaction. A result is only stored if the post is
+ * still at the version it was computed from. A failed batch is retried with a growing delay,
+ * up to {@code blogposts.derived.max-attempts} times per post.
+ * <p>
+ * Anything the queue missed is picked up by {@link #sweep()}. It runs at startup and every
+ * {@code blogposts.derived.sweep-interval}, and queues posts whose derived fields are missing
+ * or older than the post. This covers dropped and abandoned IDs, content written by the
+ * write-behind buffer, posts created before the pipeline existed, and other instances.
+ * <p>
+ * Queue depth, processed posts, drops, retries, failures, batch time and end-to-end lag are
+ * published as {@code blogposts.derived.*} meters.
+ */
+@Component
+public class DerivedContentPipeline implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(DerivedContentPipeline.class);
+
+    private final BlogPostRepository blogPostRepository;
+    private final BlogPostContentStore contentStore;
+    private final BlogPostCache blogPostCache;
+    private final PublishedFeed publishedFeed;
+    private final TransactionTemplate transactionTemplate;
+    private final DerivedContentCalculator calculator;
+    private final boolean enabled;
+    private final int workers;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration retryBackoff;
+
+    private final BlockingQueue<Long> queue;
+    private final Map<Long, Long> queuedAt = new ConcurrentHashMap<>();
+    private final Map<Long, Integer> attempts = new ConcurrentHashMap<>();
+    private final ReentrantLock sweepLock = new ReentrantLock();
+    private final Counter processed;
+    private final Counter dropped;
+    private final Counter retries;
+    private final Counter failures;
+    private final Timer batchTime;
+    private final Timer lag;
+
+    private volatile boolean running;
+    private ExecutorService workerPool;
+    private ScheduledExecutorService retryScheduler;
+
+    public DerivedContentPipeline(BlogPostRepository blogPostRepository, BlogPostContentStore contentStore,
+                                  BlogPostCache blogPostCache, PublishedFeed publishedFeed,
+                                  TransactionTemplate transactionTemplate, MeterRegistry meterRegistry,
+                                  @Value("${blogposts.derived.enabled:true}") boolean enabled,
+                                  @Value("${blogposts.derived.workers:2}") int workers,
+                                  @Value("${blogposts.derived.batch-size:50}") int batchSize,
+                                  @Value("${blogposts.derived.queue-capacity:10000}") int queueCapacity,
+                                  @Value("${blogposts.derived.max-attempts:3}") int maxAttempts,
+                                  @Value("${blogposts.derived.retry-backoff:1s}") Duration retryBackoff,
+                                  @Value("${blogposts.derived.excerpt-length:200}") int excerptLength,
+                                  @Value("${blogposts.derived.words-per-minute:200}") int wordsPerMinute) {
+        this.blogPostRepository = blogPostRepository;
+        this.contentStore = contentStore;
+        this.blogPostCache = blogPostCache;
+        this.publishedFeed = publishedFeed;
+        this.transactionTemplate = transactionTemplate;
+        this.calculator = new DerivedContentCalculator(excerptLength, wordsPerMinute);
+        this.enabled = enabled;
+        this.workers = workers;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoff = retryBackoff;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+
+        Gauge.builder("blogposts.derived.queue.depth", queue, BlockingQueue::size)
+                .description("Posts waiting for their derived fields to be computed")
+                .register(meterRegistry);
+        this.processed = Counter.builder("blogposts.derived.processed")
+                .description("Posts whose derived fields were computed and stored")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("blogposts.derived.dropped")
+                .description("Posts not queued because the queue was full; picked up by the next sweep")
+                .register(meterRegistry);
+        this.retries = Counter.builder("blogposts.derived.retries")
+                .description("Posts queued again after a failed batch")
+                .register(meterRegistry);
+        this.failures = Counter.builder("blogposts.derived.failures")
+                .description("Posts given up on after the maximum number of attempts")
+                .register(meterRegistry);
+        this.batchTime = Timer.builder("blogposts.derived.batch")
+                .description("Time to compute and store one batch")
+                .register(meterRegistry);
+        this.lag = Timer.builder("blogposts.derived.lag")
+                .description("Time from a post being queued until its derived fields are stored")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    /**
+     * Queues a post whose title or content may have changed. Never blocks.
+     *
+     * @param id the ID of the post
+     */
+    public void submit(long id) {
+        if (!running || queuedAt.putIfAbsent(id, System.nanoTime()) != null) {
+            return;
+        }
+        if (!queue.offer(id)) {
+            queuedAt.remove(id);
+            dropped.increment();
+        }
+    }
+
+    public int queueDepth() {
+        return queue.size();
+    }
+
+    /**
+     * Queues posts whose derived fields are missing or stale, as long as the queue has room.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${blogposts.derived.sweep-interval:60s}",
+            initialDelayString = "${blogposts.derived.sweep-interval:60s}")
+    public void sweep() {
+        if (!running || !sweepLock.tryLock()) {
+            return;
+        }
+        try {
+            long lastId = 0;
+            int found = 0;
+            while (queue.remainingCapacity() > 0) {
+                List<Long> stale = blogPostRepository.findIdsWithStaleDerivedContent(lastId,
+                        PageRequest.of(0, Math.min(batchSize, queue.remainingCapacity())));
+                if (stale.isEmpty()) {
+                    break;
+                }
+                stale.forEach(this::submit);
+                found += stale.size();
+                lastId = stale.get(stale.size() - 1);
+            }
+            if (found > 0) {
+                log.info("Queued {} posts with stale derived fields", found);
+            }
+        } finally {
+            sweepLock.unlock();
+        }
+    }
+
+    private void work() {
+        List<Long> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                Long first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                process(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Derived content worker failed", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void process(List<Long> ids) {
+        // Dequeue before loading, so a write that lands during this batch queues the post again
+        Map<Long, Long> started = new HashMap<>();
+        for (Long id : ids) {
+            Long at = queuedAt.remove(id);
+            started.put(id, at == null ? System.nanoTime() : at);
+        }
+        long start = System.nanoTime();
+        List<BlogPost> stored;
+        try {
+            stored = transactionTemplate.execute(status -> {
+                Map<Long, BlogPostContent> contents = contentStore.findAll(ids);
+                List<BlogPost> updated = new ArrayList<>(ids.size());
+                for (BlogPost post : blogPostRepository.findAllById(ids)) {
+                    BlogPostContent content = contents.get(post.getId());
+                    if (content == null) {
+                        continue;
+                    }
+                    post.setContent(content.getContent());
+                    DerivedContent derived = calculator.compute(post.getTitle(), post.getContent());
+                    if (blogPostRepository.updateDerivedContent(post.getId(), post.getVersion(), derived.slug(),
+                            derived.excerpt(), derived.wordCount(), derived.readingTimeMinutes()) > 0) {
+                        // Set on a copy: changing the managed entity would be flushed as an update
+                        // at commit and bump the version the derived fields were computed from
+                        BlogPost computed = post.copy();
+                        computed.setDerivedContent(derived, post.getVersion());
+                        updated.add(computed);
+                    }
+                }
+                return updated;
+            });
+        } catch (RuntimeException e) {
+            log.warn("Computing derived fields for {} posts failed", ids.size(), e);
+            ids.forEach(this::retry);
+            return;
+        }
+        batchTime.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+        long now = System.nanoTime();
+        for (BlogPost post : stored) {
+            blogPostCache.replaceIfCurrent(post);
+            publishedFeed.updateDerivedContent(post.getId(), post.derivedContent());
+        }
+        for (Long id : ids) {
+            attempts.remove(id);
+            lag.record(now - started.get(id), TimeUnit.NANOSECONDS);
+        }
+        processed.increment(stored.size());
+    }
+
+    private void retry(long id) {
+        int attempt = attempts.merge(id, 1, Integer::sum);
+        if (attempt >= maxAttempts) {
+            attempts.remove(id);
+            failures.increment();
+            log.error("Giving up on derived fields for post {} after {} attempts; the next sweep will retry", id, attempt);
+            return;
+        }
+        retries.increment();
+        retryScheduler.schedule(() -> submit(id), retryBackoff.toMillis() * attempt, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void start() {
+        if (!enabled || running) {
+            return;
+        }
+        running = true;
+        AtomicInteger threads = new AtomicInteger();
+        workerPool = Executors.newFixedThreadPool(workers, runnable -> {
+            Thread thread = new Thread(runnable, "blogpost-derived-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (int i = 0; i < workers; i++) {
+            workerPool.execute(this::work);
+        }
+        retryScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "blogpost-derived-retry");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Stops the workers once their current batch is done. Posts still queued are left for the
+     * sweep after the next start.
+     */
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        retryScheduler.shutdownNow();
+        workerPool.shutdown();
+        try {
+            if (!workerPool.awaitTermination(10, TimeUnit.SECONDS)) {
+                workerPool.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        queue.clear();
+        queuedAt.clear();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+}
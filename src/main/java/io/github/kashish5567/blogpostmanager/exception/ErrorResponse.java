@@ -0,0 +1,13 @@
+package io.github.kashish5567.blogpostmanager.exception;
+
+import java.time.LocalDateTime;
+
+/**
+ * Error body returned by {@link GlobalExceptionHandler}.
+ *
+ * @param timestamp when the error occurred
+ * @param status    the HTTP status code
+ * @param message   a description of the error
+ */
+public record ErrorResponse(LocalDateTime timestamp, int status, String message) {
+}
@@ -1,10 +1,13 @@
 package io.github.kashish5567.blogpostmanager.exception;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.validation.ConstraintViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.method.annotation.HandlerMethodValidationException;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 import java.time.LocalDateTime;
@@ -14,26 +17,50 @@ import java.util.Map;
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    private final MeterRegistry meterRegistry;
+
+    public GlobalExceptionHandler(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
     @ExceptionHandler(BlogPostNotFoundException.class)
     public ResponseEntity<ErrorResponse> handleNotFound(BlogPostNotFoundException ex) {
+        countError(ex, HttpStatus.NOT_FOUND);
         ErrorResponse error = new ErrorResponse(LocalDateTime.now(), HttpStatus.NOT_FOUND.value(), ex.getMessage());
         return new ResponseEntity<>(error, HttpStatus.NOT_FOUND);
     }
 
     @ExceptionHandler(DuplicateTitleException.class)
     public ResponseEntity<ErrorResponse> handleDuplicateTitle(DuplicateTitleException ex) {
+        countError(ex, HttpStatus.CONFLICT);
         ErrorResponse error = new ErrorResponse(LocalDateTime.now(), HttpStatus.CONFLICT.value(), ex.getMessage());
         return new ResponseEntity<>(error, HttpStatus.CONFLICT);
     }
 
+    @ExceptionHandler(VersionConflictException.class)
+    public ResponseEntity<ErrorResponse> handleVersionConflict(VersionConflictException ex) {
+        countError(ex, HttpStatus.PRECONDITION_FAILED);
+        ErrorResponse error = new ErrorResponse(LocalDateTime.now(), HttpStatus.PRECONDITION_FAILED.value(), ex.getMessage());
+        return new ResponseEntity<>(error, HttpStatus.PRECONDITION_FAILED);
+    }
+
     @ExceptionHandler(InvalidBlogPostException.class)
     public ResponseEntity<ErrorResponse> handleInvalidBlogPost(InvalidBlogPostException ex) {
+        countError(ex, HttpStatus.BAD_REQUEST);
+        ErrorResponse error = new ErrorResponse(LocalDateTime.now(), HttpStatus.BAD_REQUEST.value(), ex.getMessage());
+        return new ResponseEntity<>(error, HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidCursor(InvalidCursorException ex) {
+        countError(ex, HttpStatus.BAD_REQUEST);
         ErrorResponse error = new ErrorResponse(LocalDateTime.now(), HttpStatus.BAD_REQUEST.value(), ex.getMessage());
         return new ResponseEntity<>(error, HttpStatus.BAD_REQUEST);
     }
 
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<Map<String, String>> handleValidationErrors(MethodArgumentNotValidException ex) {
+        countError(ex, HttpStatus.BAD_REQUEST);
         Map<String, String> errors = new HashMap<>();
         for (FieldError err : ex.getBindingResult().getFieldErrors()) {
             errors.put(err.getField(), err.getDefaultMessage());
@@ -41,8 +68,21 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errors, HttpStatus.BAD_REQUEST);
     }
 
+    /**
+     * Constraints on request parameters and bodies, such as page and batch size limits, are
+     * checked by method validation rather than data binding.
+     */
+    @ExceptionHandler({ConstraintViolationException.class, HandlerMethodValidationException.class})
+    public ResponseEntity<ErrorResponse> handleConstraintViolation(Exception ex) {
+        countError(ex, HttpStatus.BAD_REQUEST);
+        ErrorResponse error = new ErrorResponse(LocalDateTime.now(), HttpStatus.BAD_REQUEST.value(),
+                "Invalid request: " + ex.getMessage());
+        return new ResponseEntity<>(error, HttpStatus.BAD_REQUEST);
+    }
+
     @ExceptionHandler(MethodArgumentTypeMismatchException.class)
     public ResponseEntity<ErrorResponse> handleTypeMismatch(MethodArgumentTypeMismatchException ex) {
+        countError(ex, HttpStatus.BAD_REQUEST);
         String message = "Invalid value for parameter: " + ex.getName();
         ErrorResponse error = new ErrorResponse(LocalDateTime.now(), HttpStatus.BAD_REQUEST.value(), message);
         return new ResponseEntity<>(error, HttpStatus.BAD_REQUEST);
@@ -50,8 +90,17 @@ public class GlobalExceptionHandler {
 
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleGeneralException(Exception ex) {
+        countError(ex, HttpStatus.INTERNAL_SERVER_ERROR);
         ErrorResponse error = new ErrorResponse(LocalDateTime.now(), HttpStatus.INTERNAL_SERVER_ERROR.value(), "An error occurred: " + ex.getMessage());
         return new ResponseEntity<>(error, HttpStatus.INTERNAL_SERVER_ERROR);
     }
-}
 
+    /**
+     * Counts handled exceptions by type and resulting status as {@code blogposts.errors}.
+     */
+    private void countError(Exception ex, HttpStatus status) {
+        meterRegistry.counter("blogposts.errors",
+                "exception", ex.getClass().getSimpleName(),
+                "status", Integer.toString(status.value())).increment();
+    }
+}
@@ -0,0 +1,15 @@
+package io.github.kashish5567.blogpostmanager.exception;
+
+/**
+ * Exception thrown when a pagination cursor sent by a client cannot be decoded.
+ */
+public class InvalidCursorException extends RuntimeException {
+
+    /**
+     * Creates a new InvalidCursorException with the specified message.
+     * @param message The error message explaining why the cursor is invalid.
+     */
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,16 @@
+package io.github.kashish5567.blogpostmanager.exception;
+
+/**
+ * Exception thrown when a conditional update names a version of a blog post
+ * that is no longer current, because another client has changed it since.
+ */
+public class VersionConflictException extends RuntimeException {
+
+    /**
+     * Creates a new VersionConflictException with the specified message.
+     * @param message The error message explaining the version mismatch.
+     */
+    public VersionConflictException(String message) {
+        super(message);
+    }
+}
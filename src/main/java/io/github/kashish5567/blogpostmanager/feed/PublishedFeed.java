@@ -0,0 +1,263 @@
+package io.github.kashish5567.blogpostmanager.feed;
+
+import io.github.kashish5567.blogpostmanager.changes.ChangeLog;
+import io.github.kashish5567.blogpostmanager.model.BlogPostChange;
+import io.github.kashish5567.blogpostmanager.model.BlogPostCursor;
+import io.github.kashish5567.blogpostmanager.model.BlogPostPage;
+import io.github.kashish5567.blogpostmanager.model.BlogPostSummary;
+import io.github.kashish5567.blogpostmanager.model.DerivedContent;
+import io.github.kashish5567.blogpostmanager.repository.BlogPostRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-memory, newest-first index of published post summaries, so the public feed can be
+ * paged without a database query.
+ * <p>
+ * The service keeps the feed current with {@link #update(BlogPostSummary)} after every write
+ * and {@link #remove(long)} after every delete. Writes made by other application instances are
+ * picked up from the {@link ChangeLog} every {@code blogposts.feed.poll-interval}: only the
+ * posts they changed are re-read. Entries beyond a gap in the sequence are applied as soon as
+ * they are visible; the position in the log only moves past the gap once it has settled.
+ * <p>
+ * {@link #reconcile()} re-reads every published summary. It builds the feed at startup and
+ * otherwise runs only every {@code blogposts.feed.reconcile-interval}, as a backstop.
+ * <p>
+ * Local changes are stamped with a sequence number. Neither a poll nor a reconciliation
+ * overrides an entry that was changed locally after its query started, because its snapshot
+ * may predate the change.
+ */
+@Component
+public class PublishedFeed {
+
+    private static final Logger log = LoggerFactory.getLogger(PublishedFeed.class);
+
+    private static final int PAGE_SIZE = 500;
+
+    private static final Comparator<BlogPostCursor> NEWEST_FIRST =
+            Comparator.comparing(BlogPostCursor::createdAt).thenComparingLong(BlogPostCursor::id).reversed();
+
+    private final BlogPostRepository blogPostRepository;
+    private final ChangeLog changeLog;
+    private final Counter remoteUpdates;
+
+    private final NavigableMap<BlogPostCursor, BlogPostSummary> feed = new ConcurrentSkipListMap<>(NEWEST_FIRST);
+    private final Map<Long, BlogPostCursor> positions = new ConcurrentHashMap<>();
+    private final Map<Long, Long> localChanges = new ConcurrentHashMap<>();
+    private final AtomicLong changeSequence = new AtomicLong();
+    private final ReentrantLock reconcileLock = new ReentrantLock();
+    private final Set<Long> appliedAhead = new HashSet<>();
+    private volatile boolean loaded;
+    private volatile long watermark = -1;
+
+    public PublishedFeed(BlogPostRepository blogPostRepository, ChangeLog changeLog, MeterRegistry meterRegistry) {
+        this.blogPostRepository = blogPostRepository;
+        this.changeLog = changeLog;
+        this.remoteUpdates = Counter.builder("blogposts.feed.remote-updates")
+                .description("Feed entries re-read because another instance changed the post")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns one page of published posts, newest first.
+     *
+     * @param cursor the continuation token from the previous page, or null for the first page
+     * @param size the maximum number of posts to return
+     * @return the requested page
+     */
+    public BlogPostPage page(String cursor, int size) {
+        if (!loaded) {
+            reconcile();
+        }
+        NavigableMap<BlogPostCursor, BlogPostSummary> remaining = cursor == null || cursor.isEmpty()
+                ? feed
+                : feed.tailMap(BlogPostCursor.decode(cursor), false);
+        List<BlogPostSummary> posts = new ArrayList<>(size + 1);
+        for (BlogPostSummary summary : remaining.values()) {
+            posts.add(summary);
+            if (posts.size() > size) {
+                break;
+            }
+        }
+        if (posts.size() <= size) {
+            return new BlogPostPage(posts, null);
+        }
+        List<BlogPostSummary> page = posts.subList(0, size);
+        return new BlogPostPage(page, BlogPostCursor.after(page.get(size - 1)).encode());
+    }
+
+    /**
+     * Records the current state of a post after a local write: adds it if it is published,
+     * moves or replaces its entry if it already was, and drops it if it is not published.
+     *
+     * @param summary the saved post
+     */
+    public void update(BlogPostSummary summary) {
+        positions.compute(summary.id(), (id, position) -> {
+            localChanges.put(id, changeSequence.incrementAndGet());
+            return replace(position, summary.published() ? summary : null);
+        });
+    }
+
+    /**
+     * Drops a post after a local delete.
+     *
+     * @param id the ID of the deleted post
+     */
+    public void remove(long id) {
+        positions.compute(id, (key, position) -> {
+            localChanges.put(key, changeSequence.incrementAndGet());
+            return replace(position, null);
+        });
+    }
+
+    /**
+     * Fills in the derived fields of a post that is in the feed, keeping everything else
+     * about its entry. Does nothing if the post is not in the feed.
+     *
+     * @param id the ID of the post
+     * @param derived its newly computed derived fields
+     */
+    public void updateDerivedContent(long id, DerivedContent derived) {
+        positions.computeIfPresent(id, (key, position) -> {
+            BlogPostSummary summary = feed.get(position);
+            if (summary != null) {
+                feed.put(position, summary.withDerivedContent(derived));
+            }
+            return position;
+        });
+    }
+
+    public int size() {
+        return positions.size();
+    }
+
+    /**
+     * Brings the whole feed in line with the database.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${blogposts.feed.reconcile-interval:10m}",
+            initialDelayString = "${blogposts.feed.reconcile-interval:10m}")
+    public void reconcile() {
+        reconcileLock.lock();
+        try {
+            long start = System.nanoTime();
+            if (watermark < 0) {
+                // Read the position first, so other instances' writes during the query are applied by poll()
+                watermark = changeLog.latestSeq();
+            }
+            long snapshot = changeSequence.get();
+            List<BlogPostSummary> published = blogPostRepository.findPublishedSummaries();
+            Set<Long> seen = new HashSet<>(published.size());
+            for (BlogPostSummary summary : published) {
+                seen.add(summary.id());
+                reconcile(summary.id(), summary, snapshot);
+            }
+            for (Long id : positions.keySet()) {
+                if (!seen.contains(id)) {
+                    reconcile(id, null, snapshot);
+                }
+            }
+            localChanges.values().removeIf(sequence -> sequence <= snapshot);
+            if (!loaded) {
+                loaded = true;
+                log.info("Published feed built with {} posts in {} ms", size(), (System.nanoTime() - start) / 1_000_000);
+            }
+        } finally {
+            reconcileLock.unlock();
+        }
+    }
+
+    /**
+     * Re-reads the posts that other instances changed since the last poll.
+     */
+    @Scheduled(fixedDelayString = "${blogposts.feed.poll-interval:1s}",
+            initialDelayString = "${blogposts.feed.poll-interval:1s}")
+    public void poll() {
+        if (watermark < 0) {
+            return;
+        }
+        reconcileLock.lock();
+        try {
+            List<BlogPostChange> rows;
+            long next;
+            do {
+                rows = changeLog.readUnsettled(watermark, PAGE_SIZE);
+                Set<Long> changed = new HashSet<>();
+                for (BlogPostChange change : rows) {
+                    // Entries beyond an unsettled gap are read again until it settles; apply them once
+                    if (appliedAhead.add(change.getSeq()) && !changeLog.instanceId().equals(change.getOrigin())) {
+                        changed.add(change.getPostId());
+                    }
+                }
+                apply(changed);
+                next = changeLog.settle(watermark, rows).next();
+                long settled = next;
+                appliedAhead.removeIf(seq -> seq <= settled);
+                watermark = next;
+            } while (rows.size() == PAGE_SIZE && next == rows.get(rows.size() - 1).getSeq());
+        } catch (RuntimeException e) {
+            log.warn("Reading the change log for the published feed failed", e);
+        } finally {
+            reconcileLock.unlock();
+        }
+    }
+
+    private void apply(Set<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        long snapshot = changeSequence.get();
+        Set<Long> missing = new HashSet<>(ids);
+        for (BlogPostSummary summary : blogPostRepository.findSummariesByIds(ids)) {
+            missing.remove(summary.id());
+            reconcile(summary.id(), summary.published() ? summary : null, snapshot);
+        }
+        for (Long id : missing) {
+            reconcile(id, null, snapshot);
+        }
+        remoteUpdates.increment(ids.size());
+    }
+
+    private void reconcile(long id, BlogPostSummary summary, long snapshot) {
+        positions.compute(id, (key, position) -> localChanges.getOrDefault(key, 0L) > snapshot
+                ? position
+                : replace(position, summary));
+    }
+
+    /**
+     * Swaps a post's feed entry. Only called from inside {@code positions.compute}, which
+     * serializes all changes to the same post.
+     *
+     * @return the post's new position, or null if it is no longer in the feed
+     */
+    private BlogPostCursor replace(BlogPostCursor position, BlogPostSummary summary) {
+        BlogPostCursor newPosition = summary == null ? null : BlogPostCursor.after(summary);
+        // Insert before removing, so concurrent readers never miss a post that is only changing
+        if (newPosition != null) {
+            feed.put(newPosition, summary);
+        }
+        if (position != null && !position.equals(newPosition)) {
+            feed.remove(position);
+        }
+        return newPosition;
+    }
+}
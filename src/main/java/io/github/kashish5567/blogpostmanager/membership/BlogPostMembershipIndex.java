@@ -0,0 +1,287 @@
+package io.github.kashish5567.blogpostmanager.membership;
+
+import io.github.kashish5567.blogpostmanager.changes.ChangeLog;
+import io.github.kashish5567.blogpostmanager.model.BlogPostChange;
+import io.github.kashish5567.blogpostmanager.model.ChangeType;
+import io.github.kashish5567.blogpostmanager.repository.BlogPostRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory Bloom filters of existing post IDs and titles, so lookups of posts that do not
+ * exist can be answered without a database round trip.
+ * <p>
+ * A "no" from {@link #mightContainId(long)} or {@link #mightContainTitle(String)} means the
+ * post does not exist. A "yes" means it probably does, and the caller must still ask the
+ * database. The database's constraints remain the only authority for uniqueness.
+ * <p>
+ * The filters are built from the database at startup. Until then every answer is "yes".
+ * Local writes are added directly. Posts created or renamed by other instances are picked up
+ * by following the {@link ChangeLog} every {@code blogposts.membership.refresh-interval}. Until
+ * the filters have caught up with the end of the log, a "no" could be wrong, so it is turned
+ * into a "yes" and the caller checks the database; another instance's new post is therefore
+ * never reported missing here.
+ * <p>
+ * Deleted posts cannot be removed from a Bloom filter and slowly raise the false positive
+ * rate. The filters are rebuilt every {@code blogposts.membership.rebuild-interval}, and at the
+ * next refresh once the estimated rate exceeds twice {@code blogposts.membership.false-positive-rate}.
+ * <p>
+ * Estimated false positive rates, memory footprint and lookup outcomes are published as
+ * {@code blogposts.membership.*} meters. False positives confirmed by the database are counted
+ * too, so the real rate can be compared with the estimate.
+ */
+@Component
+public class BlogPostMembershipIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(BlogPostMembershipIndex.class);
+
+    private static final int PAGE_SIZE = 1000;
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern NOT_LETTER_OR_DIGIT = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final BlogPostRepository blogPostRepository;
+    private final ChangeLog changeLog;
+    private final boolean enabled;
+    private final long minimumCapacity;
+    private final double falsePositiveRate;
+
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private final Counter absent;
+    private final Counter present;
+    private final Counter falsePositives;
+    private final Counter unconfirmed;
+
+    private volatile Filters filters;
+    private volatile Filters building;
+    private volatile long changeCursor;
+
+    public BlogPostMembershipIndex(BlogPostRepository blogPostRepository, ChangeLog changeLog,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${blogposts.membership.enabled:true}") boolean enabled,
+                                   @Value("${blogposts.membership.minimum-capacity:100000}") long minimumCapacity,
+                                   @Value("${blogposts.membership.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.blogPostRepository = blogPostRepository;
+        this.changeLog = changeLog;
+        this.enabled = enabled;
+        this.minimumCapacity = minimumCapacity;
+        this.falsePositiveRate = falsePositiveRate;
+
+        this.absent = Counter.builder("blogposts.membership.lookups")
+                .tag("result", "absent")
+                .description("Lookups answered as definitely absent, without a database query")
+                .register(meterRegistry);
+        this.present = Counter.builder("blogposts.membership.lookups")
+                .tag("result", "maybe")
+                .description("Lookups that had to be checked against the database")
+                .register(meterRegistry);
+        this.falsePositives = Counter.builder("blogposts.membership.false-positives")
+                .description("Lookups passed on to the database that found nothing, including unconfirmed ones")
+                .register(meterRegistry);
+        this.unconfirmed = Counter.builder("blogposts.membership.unconfirmed")
+                .description("Lookups the filter ruled out while behind the change log, checked against the database anyway")
+                .register(meterRegistry);
+        Gauge.builder("blogposts.membership.false-positive-rate", this, index -> index.expectedFalsePositiveRate(true))
+                .tag("filter", "ids")
+                .description("Estimated false positive rate of the ID filter")
+                .register(meterRegistry);
+        Gauge.builder("blogposts.membership.false-positive-rate", this, index -> index.expectedFalsePositiveRate(false))
+                .tag("filter", "titles")
+                .description("Estimated false positive rate of the title filter")
+                .register(meterRegistry);
+        Gauge.builder("blogposts.membership.memory", this, BlogPostMembershipIndex::memoryBytes)
+                .baseUnit("bytes")
+                .description("Memory used by the ID and title filters")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return false if no post has this ID; true if one probably does
+     */
+    public boolean mightContainId(long id) {
+        Filters current = filters;
+        return count(current == null || current.ids.mightContain(BloomFilter.hash(id)) || isBehind());
+    }
+
+    /**
+     * @return false if no post has this title; true if one probably does
+     */
+    public boolean mightContainTitle(String title) {
+        Filters current = filters;
+        return count(current == null || current.titles.mightContain(BloomFilter.hash(normalize(title))) || isBehind());
+    }
+
+    /**
+     * Whether the change log holds entries the filters have not caught up with yet, including
+     * any still waiting behind an unsettled gap. Checked only when a filter says "no".
+     */
+    private boolean isBehind() {
+        if (changeLog.latestSeq() > changeCursor) {
+            unconfirmed.increment();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Records a post that was created or renamed.
+     */
+    public void add(long id, String title) {
+        Filters current = filters;
+        if (current != null) {
+            current.add(id, title);
+        }
+        Filters next = building;
+        if (next != null) {
+            next.add(id, title);
+        }
+    }
+
+    /**
+     * Counts a lookup that the filter let through but the database found nothing for.
+     */
+    public void falsePositive() {
+        falsePositives.increment();
+    }
+
+    /**
+     * Builds fresh filters from the database and swaps them in. Lookups keep using the old
+     * filters meanwhile, and writes are added to both.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${blogposts.membership.rebuild-interval:6h}",
+            initialDelayString = "${blogposts.membership.rebuild-interval:6h}")
+    public void rebuild() {
+        if (!enabled || !rebuildLock.tryLock()) {
+            return;
+        }
+        try {
+            long start = System.nanoTime();
+            // Read the cursor first, so changes made during the scan are replayed afterwards
+            long cursor = changeLog.latestSeq();
+            Filters next = new Filters(Math.max(minimumCapacity, 2 * blogPostRepository.count()), falsePositiveRate);
+            building = next;
+            long lastId = 0;
+            long count = 0;
+            List<Object[]> page;
+            do {
+                page = blogPostRepository.findIdsAndTitlesAfter(lastId, PageRequest.of(0, PAGE_SIZE));
+                for (Object[] row : page) {
+                    lastId = (Long) row[0];
+                    next.add(lastId, (String) row[1]);
+                }
+                count += page.size();
+            } while (page.size() == PAGE_SIZE);
+            if (filters == null || changeCursor > cursor) {
+                changeCursor = cursor;
+            }
+            filters = next;
+            building = null;
+            log.info("Membership filters built with {} posts in {} ms: {} KiB, estimated false positive rate {} for IDs and {} for titles",
+                    count, (System.nanoTime() - start) / 1_000_000, next.memoryBytes() / 1024,
+                    String.format(Locale.ROOT, "%.4f", next.ids.expectedFalsePositiveRate()),
+                    String.format(Locale.ROOT, "%.4f", next.titles.expectedFalsePositiveRate()));
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    /**
+     * Adds posts created or renamed since the last refresh, including those written by other
+     * instances, and triggers a rebuild if the filters have degraded. Adding is idempotent, so
+     * entries beyond an unsettled gap are added as soon as they are visible, and read again
+     * until the cursor can move past the gap.
+     */
+    @Scheduled(fixedDelayString = "${blogposts.membership.refresh-interval:1s}",
+            initialDelayString = "${blogposts.membership.refresh-interval:1s}")
+    public void refresh() {
+        if (filters == null) {
+            return;
+        }
+        List<BlogPostChange> rows;
+        long next;
+        do {
+            rows = changeLog.readUnsettled(changeCursor, PAGE_SIZE);
+            List<Long> ids = rows.stream()
+                    .filter(change -> change.getType() == ChangeType.CREATED || change.getType() == ChangeType.UPDATED)
+                    .map(BlogPostChange::getPostId)
+                    .distinct()
+                    .toList();
+            if (!ids.isEmpty()) {
+                for (Object[] row : blogPostRepository.findIdsAndTitles(ids)) {
+                    add((Long) row[0], (String) row[1]);
+                }
+            }
+            next = changeLog.settle(changeCursor, rows).next();
+            changeCursor = next;
+        } while (rows.size() == PAGE_SIZE && next == rows.get(rows.size() - 1).getSeq());
+
+        if (Math.max(expectedFalsePositiveRate(true), expectedFalsePositiveRate(false)) > 2 * falsePositiveRate) {
+            log.info("Membership filters have degraded; rebuilding");
+            rebuild();
+        }
+    }
+
+    public double expectedFalsePositiveRate(boolean ids) {
+        Filters current = filters;
+        if (current == null) {
+            return 1.0;
+        }
+        return (ids ? current.ids : current.titles).expectedFalsePositiveRate();
+    }
+
+    public long memoryBytes() {
+        Filters current = filters;
+        return current == null ? 0 : current.memoryBytes();
+    }
+
+    private boolean count(boolean maybe) {
+        (maybe ? present : absent).increment();
+        return maybe;
+    }
+
+    /**
+     * Reduces a title to a form that is equal for any two titles the database's
+     * case- and accent-insensitive collation treats as equal. It may also merge titles the
+     * collation keeps apart, which only adds false positives.
+     */
+    static String normalize(String title) {
+        String decomposed = Normalizer.normalize(title, Normalizer.Form.NFKD);
+        String folded = DIACRITICS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT).replace("ß", "ss");
+        return NOT_LETTER_OR_DIGIT.matcher(folded).replaceAll("");
+    }
+
+    private static final class Filters {
+
+        private final BloomFilter ids;
+        private final BloomFilter titles;
+
+        Filters(long capacity, double falsePositiveRate) {
+            this.ids = new BloomFilter(capacity, falsePositiveRate);
+            this.titles = new BloomFilter(capacity, falsePositiveRate);
+        }
+
+        void add(long id, String title) {
+            ids.add(BloomFilter.hash(id));
+            titles.add(BloomFilter.hash(normalize(title)));
+        }
+
+        long memoryBytes() {
+            return ids.memoryBytes() + titles.memoryBytes();
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package io.github.kashish5567.blogpostmanager.membership;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-size, thread-safe Bloom filter over 64-bit hashes.
+ * <p>
+ * {@link #mightContain(long)} never returns false for a hash that was added, and returns true
+ * for one that was not with roughly the configured probability. Bits are set with
+ * compare-and-set, so adds and lookups never lock. Entries cannot be removed.
+ */
+final class BloomFilter {
+
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashCount;
+
+    /**
+     * @param expectedInsertions how many distinct entries the filter is sized for
+     * @param falsePositiveRate the target false positive rate at that size
+     */
+    BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        long n = Math.max(expectedInsertions, 1);
+        long bits = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.words = new AtomicLongArray((int) Math.min(Integer.MAX_VALUE - 8, (bits + 63) / 64));
+        this.bitCount = words.length() * 64L;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / n * Math.log(2)));
+    }
+
+    void add(long hash) {
+        long h1 = hash;
+        long h2 = hash >>> 32 | hash << 32;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitCount);
+            int index = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long word = words.get(index);
+            while ((word & mask) == 0 && !words.compareAndSet(index, word, word | mask)) {
+                word = words.get(index);
+            }
+        }
+    }
+
+    boolean mightContain(long hash) {
+        long h1 = hash;
+        long h2 = hash >>> 32 | hash << 32;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitCount);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Estimates the current false positive rate from the fraction of bits set, which also
+     * accounts for entries that have since been deleted from the database.
+     */
+    double expectedFalsePositiveRate() {
+        long set = 0;
+        for (int i = 0; i < words.length(); i++) {
+            set += Long.bitCount(words.get(i));
+        }
+        return Math.pow((double) set / bitCount, hashCount);
+    }
+
+    long memoryBytes() {
+        return bitCount / 8;
+    }
+
+    /**
+     * Spreads a post ID over 64 bits (the SplitMix64 finalizer).
+     */
+    static long hash(long value) {
+        long z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Hashes a title's UTF-8 bytes with 64-bit FNV-1a, then spreads the result.
+     */
+    static long hash(String value) {
+        long h = 0xCBF29CE484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b & 0xFF;
+            h *= 0x100000001B3L;
+        }
+        return hash(h);
+    }
+}
@@ -0,0 +1,11 @@
+package io.github.kashish5567.blogpostmanager.model;
+
+/**
+ * Number of posts written by one author, as counted by the database.
+ *
+ * @param author    the author's name
+ * @param posts     the number of posts by that author
+ * @param published how many of those posts are published
+ */
+public record AuthorPostCount(String author, long posts, long published) {
+}
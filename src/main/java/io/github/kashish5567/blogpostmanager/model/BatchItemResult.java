@@ -0,0 +1,20 @@
+package io.github.kashish5567.blogpostmanager.model;
+
+/**
+ * Outcome of one item in a batch create, update or delete request.
+ *
+ * @param index   position of the item in the request
+ * @param id      ID of the affected blog post, or null if the item failed before one was known
+ * @param success whether the item was written
+ * @param error   why the item failed, or null on success
+ */
+public record BatchItemResult(int index, Long id, boolean success, String error) {
+
+    public static BatchItemResult succeeded(int index, long id) {
+        return new BatchItemResult(index, id, true, null);
+    }
+
+    public static BatchItemResult failed(int index, Long id, String error) {
+        return new BatchItemResult(index, id, false, error);
+    }
+}
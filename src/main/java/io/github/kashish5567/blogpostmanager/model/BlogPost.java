@@ -1,5 +1,7 @@
 package io.github.kashish5567.blogpostmanager.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -7,14 +9,24 @@ import jakarta.validation.constraints.Size;
 import org.hibernate.validator.constraints.URL;
 
 import java.time.LocalDateTime;
-import java.util.Objects;
 
 @Entity
-@Table(name = "blog_posts")
+@Table(name = "blog_posts", indexes = {
+        @Index(name = "uk_blog_posts_title", columnList = "title", unique = true),
+        @Index(name = "idx_blog_posts_author", columnList = "author"),
+        @Index(name = "idx_blog_posts_published_created_at", columnList = "published, created_at"),
+        @Index(name = "idx_blog_posts_created_at_id", columnList = "created_at, id")
+})
 public class BlogPost {
 
+    /**
+     * Generated from the {@code id_generators} table in blocks of 50 rather than by an
+     * auto-increment column, so Hibernate knows IDs before insert and can batch inserts.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "blog_post_ids")
+    @TableGenerator(name = "blog_post_ids", table = "id_generators", pkColumnName = "name",
+            valueColumnName = "next_val", pkColumnValue = "blog_posts", allocationSize = 50)
     private long id;
 
 
@@ -24,16 +36,19 @@ public class BlogPost {
      */
     @NotBlank(message = "Blog post title is required.")
     @Size(min = 5, max = 100, message = "Title must be between 5 and 100 characters.")
-    @Column(nullable = false)
+    @Column(nullable = false, length = 100)
     private String title;
 
     /**
      * The content of the blog post.
      * Cannot be blank and must be at least 20 characters.
+     * <p>
+     * Stored separately as a {@link BlogPostContent} and only read when a caller needs it;
+     * see {@link io.github.kashish5567.blogpostmanager.repository.BlogPostContentStore}.
      */
     @NotBlank(message = "Content is required.")
     @Size(min = 20, message = "Content must be at least 20 characters long.")
-    @Column(nullable = false, columnDefinition = "TEXT")
+    @Transient
     private String content;
 
     /**
@@ -41,7 +56,7 @@ public class BlogPost {
      */
     @NotBlank(message = "Author name is required.")
     @Size(min = 3, max = 50, message = "Author name must be between 3 and 50 characters.")
-    @Column(nullable = false)
+    @Column(nullable = false, length = 50)
     private String author;
 
     /**
@@ -64,6 +79,48 @@ public class BlogPost {
     @Column(nullable = false)
     private LocalDateTime createdAt = LocalDateTime.now();
 
+    /**
+     * Version number used for optimistic locking, incremented on every update.
+     * Also exposed to clients as the post's ETag.
+     */
+    @Version
+    @Column(nullable = false)
+    private long version;
+
+    /**
+     * URL-friendly form of the title. This and the other derived fields are filled in
+     * asynchronously after each write, so they are null for a freshly created post and may
+     * briefly describe the previous version after an update. Clients cannot set them.
+     */
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @Column(length = 120)
+    private String slug;
+
+    /**
+     * The start of the content, cut at a word boundary.
+     */
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @Column(length = 320)
+    private String excerpt;
+
+    /**
+     * Number of words in the content.
+     */
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Integer wordCount;
+
+    /**
+     * Estimated reading time in minutes.
+     */
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Integer readingTimeMinutes;
+
+    /**
+     * The {@link #version} the derived fields were computed from, or null if they never were.
+     */
+    @JsonIgnore
+    private Long derivedVersion;
+
     public BlogPost() {}
 
     public BlogPost(String title, String content, String author, String coverImage, boolean published, LocalDateTime createdAt) {
@@ -75,6 +132,18 @@ public class BlogPost {
         this.createdAt = createdAt;
     }
 
+    /**
+     * Returns a copy of this post, including its ID, version and derived fields. Cached posts
+     * are shared between threads, so write paths change a copy rather than the cached instance.
+     */
+    public BlogPost copy() {
+        BlogPost copy = new BlogPost(title, content, author, coverImage, published, createdAt);
+        copy.id = id;
+        copy.version = version;
+        copy.setDerivedContent(derivedContent(), derivedVersion);
+        return copy;
+    }
+
     // Getters and Setters
 
     public long getId() {
@@ -133,24 +202,74 @@ public class BlogPost {
         this.createdAt = createdAt;
     }
 
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
+    public String getSlug() {
+        return slug;
+    }
+
+    public String getExcerpt() {
+        return excerpt;
+    }
+
+    public Integer getWordCount() {
+        return wordCount;
+    }
+
+    public Integer getReadingTimeMinutes() {
+        return readingTimeMinutes;
+    }
+
+    public Long getDerivedVersion() {
+        return derivedVersion;
+    }
+
+    /**
+     * Sets the derived fields, as computed from the given version of this post.
+     *
+     * @param derived the derived fields, or null to clear them
+     * @param fromVersion the version they were computed from, or null
+     */
+    public void setDerivedContent(DerivedContent derived, Long fromVersion) {
+        this.slug = derived == null ? null : derived.slug();
+        this.excerpt = derived == null ? null : derived.excerpt();
+        this.wordCount = derived == null ? null : derived.wordCount();
+        this.readingTimeMinutes = derived == null ? null : derived.readingTimeMinutes();
+        this.derivedVersion = fromVersion;
+    }
+
+    /**
+     * Returns the derived fields, or null if they have not been computed yet.
+     */
+    public DerivedContent derivedContent() {
+        return derivedVersion == null ? null : new DerivedContent(slug, excerpt, wordCount, readingTimeMinutes);
+    }
+
     // equals, hashCode, and toString
 
+    /**
+     * Posts are equal when they have the same ID. Posts that have not been saved yet
+     * (ID 0) are only equal to themselves.
+     */
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
         if (!(o instanceof BlogPost blogPost)) return false;
-        return id == blogPost.id &&
-                published == blogPost.published &&
-                Objects.equals(title, blogPost.title) &&
-                Objects.equals(content, blogPost.content) &&
-                Objects.equals(author, blogPost.author) &&
-                Objects.equals(coverImage, blogPost.coverImage) &&
-                Objects.equals(createdAt, blogPost.createdAt);
+        return id != 0 && id == blogPost.id;
     }
 
+    /**
+     * Constant, so that a post keeps its hash bucket when saving assigns its ID.
+     */
     @Override
     public int hashCode() {
-        return Objects.hash(id, title, content, author, coverImage, published, createdAt);
+        return BlogPost.class.hashCode();
     }
 
     @Override
@@ -158,11 +277,12 @@ public class BlogPost {
         return "BlogPost{" +
                 "id=" + id +
                 ", title='" + title + '\'' +
-                ", content='" + content + '\'' +
+                ", contentLength=" + (content == null ? "not loaded" : content.length()) +
                 ", author='" + author + '\'' +
                 ", coverImage='" + coverImage + '\'' +
                 ", published=" + published +
                 ", createdAt=" + createdAt +
+                ", version=" + version +
                 '}';
     }
 }
@@ -0,0 +1,35 @@
+package io.github.kashish5567.blogpostmanager.model;
+
+import jakarta.validation.constraints.Positive;
+
+/**
+ * One entry of a bulk update request. Fields left null are not changed.
+ *
+ * @param id         ID of the blog post to update
+ * @param title      new title, or null to keep the current one
+ * @param content    new content, or null to keep the current one
+ * @param author     new author, or null to keep the current one
+ * @param coverImage new cover image URL, or null to keep the current one
+ */
+public record BlogPostBatchUpdate(@Positive long id, String title, String content, String author, String coverImage) {
+
+    /**
+     * Copies the non-null fields of this update onto a blog post.
+     *
+     * @param blogPost the post to modify
+     */
+    public void applyTo(BlogPost blogPost) {
+        if (title != null) {
+            blogPost.setTitle(title);
+        }
+        if (content != null) {
+            blogPost.setContent(content);
+        }
+        if (author != null) {
+            blogPost.setAuthor(author);
+        }
+        if (coverImage != null) {
+            blogPost.setCoverImage(coverImage);
+        }
+    }
+}
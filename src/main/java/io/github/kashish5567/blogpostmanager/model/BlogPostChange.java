@@ -0,0 +1,82 @@
+package io.github.kashish5567.blogpostmanager.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * One entry of the change log: a write to a blog post, numbered by a sequence that only
+ * grows. Consumers remember the last sequence they handled and ask for everything after it.
+ * <p>
+ * The entry only says which post changed and how; consumers fetch the post itself if they
+ * need its new state.
+ */
+@Entity
+@Table(name = "blog_post_changes", indexes = {
+        @Index(name = "idx_blog_post_changes_changed_at", columnList = "changed_at")
+})
+public class BlogPostChange {
+
+    /**
+     * Assigned by the database on insert, so it follows insert order across all instances.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private long seq;
+
+    @Column(name = "post_id", nullable = false)
+    private long postId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private ChangeType type;
+
+    /**
+     * Set by the database on insert, so that every instance compares entry ages against the
+     * same clock.
+     */
+    @Column(name = "changed_at", nullable = false, insertable = false, updatable = false)
+    private LocalDateTime changedAt;
+
+    /**
+     * ID of the application instance that made the change, so instances can skip their own
+     * changes when invalidating caches.
+     */
+    @JsonIgnore
+    @Column(length = 64)
+    private String origin;
+
+    protected BlogPostChange() {}
+
+    public BlogPostChange(long postId, ChangeType type, String origin) {
+        this.postId = postId;
+        this.type = type;
+        this.origin = origin;
+    }
+
+    public long getSeq() {
+        return seq;
+    }
+
+    public long getPostId() {
+        return postId;
+    }
+
+    public ChangeType getType() {
+        return type;
+    }
+
+    public LocalDateTime getChangedAt() {
+        return changedAt;
+    }
+
+    public String getOrigin() {
+        return origin;
+    }
+
+    @Override
+    public String toString() {
+        return "BlogPostChange{seq=" + seq + ", postId=" + postId + ", type=" + type + ", changedAt=" + changedAt + '}';
+    }
+}
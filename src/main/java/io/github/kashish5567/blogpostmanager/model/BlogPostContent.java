@@ -0,0 +1,146 @@
+package io.github.kashish5567.blogpostmanager.model;
+
+import jakarta.persistence.*;
+import org.springframework.data.domain.Persistable;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Body of a {@link BlogPost}, stored in its own table so that loading, listing or checking
+ * posts never reads their content.
+ * <p>
+ * Bodies longer than the compression threshold are stored deflated in {@code compressed_body},
+ * provided that actually saves space; shorter ones are stored as plain text in {@code body}.
+ * Exactly one of the two columns is set.
+ */
+@Entity
+@Table(name = "blog_post_contents")
+public class BlogPostContent implements Persistable<Long> {
+
+    /**
+     * ID of the post this body belongs to. Deleting the post deletes its body.
+     */
+    @Id
+    @Column(name = "post_id")
+    private long postId;
+
+    @Column(columnDefinition = "MEDIUMTEXT")
+    private String body;
+
+    @Column(name = "compressed_body", columnDefinition = "LONGBLOB")
+    private byte[] compressedBody;
+
+    /**
+     * Length of the body in characters, so sizes can be reported without reading the body.
+     */
+    @Column(name = "content_length", nullable = false)
+    private int contentLength;
+
+    @Transient
+    private boolean isNew = true;
+
+    protected BlogPostContent() {}
+
+    /**
+     * Creates the body of a new post.
+     *
+     * @param postId the ID of the post
+     * @param content the post's content
+     * @param compressionThreshold the length in UTF-8 bytes above which the body is compressed
+     * @return the new, not yet saved body
+     */
+    public static BlogPostContent of(long postId, String content, int compressionThreshold) {
+        BlogPostContent postContent = new BlogPostContent();
+        postContent.postId = postId;
+        postContent.setContent(content, compressionThreshold);
+        return postContent;
+    }
+
+    public long getPostId() {
+        return postId;
+    }
+
+    public String getBody() {
+        return body;
+    }
+
+    public byte[] getCompressedBody() {
+        return compressedBody;
+    }
+
+    public int getContentLength() {
+        return contentLength;
+    }
+
+    /**
+     * Returns the post's content, inflating it if it is stored compressed.
+     */
+    public String getContent() {
+        return compressedBody == null ? body : inflate(compressedBody);
+    }
+
+    /**
+     * Replaces the post's content, compressing it if it is long enough for that to pay off.
+     *
+     * @param content the new content
+     * @param compressionThreshold the length in UTF-8 bytes above which the body is compressed
+     */
+    public void setContent(String content, int compressionThreshold) {
+        this.contentLength = content.length();
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        byte[] compressed = bytes.length > compressionThreshold ? deflate(bytes) : null;
+        if (compressed != null && compressed.length < bytes.length) {
+            this.body = null;
+            this.compressedBody = compressed;
+        } else {
+            this.body = content;
+            this.compressedBody = null;
+        }
+    }
+
+    @Override
+    public Long getId() {
+        return postId;
+    }
+
+    /**
+     * IDs are assigned from the post, so Spring Data cannot tell new bodies from existing ones
+     * by ID. Tracking it here lets {@code save} insert directly instead of selecting first.
+     */
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    private static byte[] deflate(byte[] bytes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 2);
+        try (OutputStream deflater = new DeflaterOutputStream(out)) {
+            deflater.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static String inflate(byte[] bytes) {
+        try (InputStream inflater = new InflaterInputStream(new ByteArrayInputStream(bytes))) {
+            return new String(inflater.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
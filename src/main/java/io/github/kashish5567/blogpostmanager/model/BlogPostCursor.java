@@ -0,0 +1,65 @@
+package io.github.kashish5567.blogpostmanager.model;
+
+import io.github.kashish5567.blogpostmanager.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position of a blog post in the {@code (createdAt, id)} ordering used for keyset pagination.
+ * <p>
+ * Clients only ever see the encoded form returned by {@link #encode()}, which is an opaque
+ * URL-safe token. The token carries the sort key of the last post on a page, so the next page
+ * can be fetched with an index range scan instead of an {@code OFFSET}.
+ *
+ * @param createdAt creation time of the last post on the previous page
+ * @param id        ID of the last post on the previous page, used to break ties on {@code createdAt}
+ */
+public record BlogPostCursor(LocalDateTime createdAt, long id) {
+
+    private static final char SEPARATOR = '|';
+
+    /**
+     * Creates a cursor pointing at the given post.
+     *
+     * @param summary the last post of a page
+     * @return a cursor positioned after that post
+     */
+    public static BlogPostCursor after(BlogPostSummary summary) {
+        return new BlogPostCursor(summary.createdAt(), summary.id());
+    }
+
+    /**
+     * Encodes this cursor as an opaque continuation token.
+     *
+     * @return the URL-safe token
+     */
+    public String encode() {
+        String raw = createdAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a continuation token previously produced by {@link #encode()}.
+     *
+     * @param token the token sent by the client
+     * @return the decoded cursor
+     * @throws InvalidCursorException if the token is malformed
+     */
+    public static BlogPostCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new InvalidCursorException("Malformed cursor: " + token);
+            }
+            LocalDateTime createdAt = LocalDateTime.parse(raw.substring(0, separator));
+            long id = Long.parseLong(raw.substring(separator + 1));
+            return new BlogPostCursor(createdAt, id);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidCursorException("Malformed cursor: " + token);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package io.github.kashish5567.blogpostmanager.model;
+
+import java.util.List;
+
+/**
+ * A single page of blog posts returned by keyset pagination.
+ *
+ * @param items      the posts on this page, ordered by {@code createdAt} then {@code id}
+ * @param nextCursor opaque token for the next page, or {@code null} if this is the last page
+ */
+public record BlogPostPage(List<BlogPostSummary> items, String nextCursor) {
+}
@@ -0,0 +1,50 @@
+package io.github.kashish5567.blogpostmanager.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Read-only view of a blog post without its content.
+ * <p>
+ * List endpoints return this projection so that feed and index pages never read the
+ * {@code content} TEXT column from the database or serialize it to the client.
+ * Repository queries build it directly with a JPQL constructor expression. The derived fields
+ * are computed in the background after each write and are null until then.
+ *
+ * @param id         the blog post ID
+ * @param title      the title of the blog post
+ * @param author     the author's name
+ * @param coverImage optional cover image URL
+ * @param published  whether the blog post is published
+ * @param createdAt  timestamp for when the post was created
+ * @param slug       URL-friendly form of the title
+ * @param excerpt    the start of the content
+ * @param wordCount  number of words in the content
+ * @param readingTimeMinutes estimated reading time
+ */
+public record BlogPostSummary(long id, String title, String author, String coverImage,
+                              boolean published, LocalDateTime createdAt,
+                              String slug, String excerpt, Integer wordCount, Integer readingTimeMinutes) {
+
+    /**
+     * Creates a summary of an already loaded blog post.
+     *
+     * @param blogPost the full blog post
+     * @return the summary view of that post
+     */
+    public static BlogPostSummary of(BlogPost blogPost) {
+        return new BlogPostSummary(blogPost.getId(), blogPost.getTitle(), blogPost.getAuthor(),
+                blogPost.getCoverImage(), blogPost.isPublished(), blogPost.getCreatedAt(),
+                blogPost.getSlug(), blogPost.getExcerpt(), blogPost.getWordCount(), blogPost.getReadingTimeMinutes());
+    }
+
+    /**
+     * Returns a copy of this summary with the given derived fields.
+     *
+     * @param derived the newly computed derived fields
+     * @return the updated summary
+     */
+    public BlogPostSummary withDerivedContent(DerivedContent derived) {
+        return new BlogPostSummary(id, title, author, coverImage, published, createdAt,
+                derived.slug(), derived.excerpt(), derived.wordCount(), derived.readingTimeMinutes());
+    }
+}
@@ -0,0 +1,26 @@
+package io.github.kashish5567.blogpostmanager.model;
+
+import java.util.List;
+
+/**
+ * One page of the change log.
+ *
+ * @param changes the changes after the requested sequence, oldest first
+ * @param next    the sequence to pass as {@code since} for the following page; unchanged if
+ *                there were no new changes
+ * @param resync  true if entries after the requested sequence have already been pruned, so the
+ *                consumer must resynchronize from the full list before following the log again
+ */
+public record ChangePage(List<BlogPostChange> changes, long next, boolean resync) {
+
+    public ChangePage(List<BlogPostChange> changes, long next) {
+        this(changes, next, false);
+    }
+
+    /**
+     * Returns a copy of this page flagged as requiring a resynchronization.
+     */
+    public ChangePage withResync() {
+        return new ChangePage(changes, next, true);
+    }
+}
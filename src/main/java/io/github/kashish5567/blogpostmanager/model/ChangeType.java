@@ -0,0 +1,22 @@
+package io.github.kashish5567.blogpostmanager.model;
+
+/**
+ * Kind of write recorded in the change log.
+ */
+public enum ChangeType {
+
+    /** A post was created. */
+    CREATED,
+
+    /** A post's title, content, author or cover image changed. */
+    UPDATED,
+
+    /** A post went from draft to published. */
+    PUBLISHED,
+
+    /** A post went from published back to draft. */
+    UNPUBLISHED,
+
+    /** A post was deleted. */
+    DELETED
+}
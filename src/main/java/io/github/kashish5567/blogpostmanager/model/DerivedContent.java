@@ -0,0 +1,13 @@
+package io.github.kashish5567.blogpostmanager.model;
+
+/**
+ * Fields computed from a post's title and content, so that list views can show them without
+ * shipping the full content to the client.
+ *
+ * @param slug               URL-friendly form of the title
+ * @param excerpt            the start of the content, cut at a word boundary
+ * @param wordCount          number of words in the content
+ * @param readingTimeMinutes estimated reading time, at least one minute
+ */
+public record DerivedContent(String slug, String excerpt, int wordCount, int readingTimeMinutes) {
+}
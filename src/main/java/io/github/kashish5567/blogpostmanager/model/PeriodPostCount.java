@@ -0,0 +1,12 @@
+package io.github.kashish5567.blogpostmanager.model;
+
+import java.time.LocalDate;
+
+/**
+ * Number of posts created in one day, week or month.
+ *
+ * @param periodStart the first day of the period; weeks start on Monday
+ * @param posts       the number of posts created in that period
+ */
+public record PeriodPostCount(LocalDate periodStart, long posts) {
+}
@@ -0,0 +1,18 @@
+package io.github.kashish5567.blogpostmanager.model;
+
+/**
+ * Number of published and draft posts, as counted by the database.
+ *
+ * @param posts     the total number of posts
+ * @param published how many of them are published
+ * @param drafts    how many of them are still drafts
+ */
+public record PublicationCounts(long posts, long published, long drafts) {
+
+    /**
+     * Used by repository constructor expressions, which count totals and published posts.
+     */
+    public PublicationCounts(long posts, long published) {
+        this(posts, published, posts - published);
+    }
+}
@@ -0,0 +1,29 @@
+package io.github.kashish5567.blogpostmanager.model;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * Bucket size for post counts over time.
+ */
+public enum StatsInterval {
+
+    DAY,
+    WEEK,
+    MONTH;
+
+    /**
+     * Returns the first day of the bucket that contains the given day.
+     *
+     * @param day a day within the bucket
+     * @return the day itself, the Monday of its week, or the first of its month
+     */
+    public LocalDate periodStart(LocalDate day) {
+        return switch (this) {
+            case DAY -> day;
+            case WEEK -> day.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTH -> day.withDayOfMonth(1);
+        };
+    }
+}
@@ -0,0 +1,50 @@
+package io.github.kashish5567.blogpostmanager.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket, implemented as the generic cell rate algorithm (GCRA).
+ * <p>
+ * Instead of a token count and a refill timestamp, the bucket keeps a single value: the
+ * theoretical arrival time of the next request if the client sent at exactly the allowed
+ * rate. A request is admitted if that time is no more than the burst allowance ahead of now,
+ * and admitting it pushes the time forward by one emission interval. The whole state fits in
+ * one {@link AtomicLong}, so admission is a single compare-and-set with no lock.
+ */
+final class TokenBucket {
+
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final AtomicLong theoreticalArrival;
+
+    /**
+     * @param permitsPerSecond the sustained rate
+     * @param burst how many requests may arrive at once after a quiet period
+     * @param nowNanos the current time in {@link System#nanoTime()} units
+     */
+    TokenBucket(double permitsPerSecond, int burst, long nowNanos) {
+        this.emissionIntervalNanos = (long) (1_000_000_000L / permitsPerSecond);
+        this.burstToleranceNanos = emissionIntervalNanos * (Math.max(burst, 1) - 1);
+        this.theoreticalArrival = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * Tries to admit one request.
+     *
+     * @param nowNanos the current time in {@link System#nanoTime()} units
+     * @return 0 if the request is admitted, otherwise how many nanoseconds to wait before retrying
+     */
+    long tryAcquire(long nowNanos) {
+        while (true) {
+            long current = theoreticalArrival.get();
+            long arrival = Math.max(current, nowNanos);
+            long wait = arrival - nowNanos - burstToleranceNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (theoreticalArrival.compareAndSet(current, arrival + emissionIntervalNanos)) {
+                return 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package io.github.kashish5567.blogpostmanager.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.kashish5567.blogpostmanager.exception.ErrorResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Admission control for write requests ({@code POST}, {@code PUT}, {@code PATCH} and
+ * {@code DELETE} under {@code /api/}), so that a burst of writes cannot take every database
+ * connection and stall reads.
+ * <p>
+ * Two limits apply, in order:
+ * <ol>
+ *     <li>A per-client token bucket allowing {@code blogposts.ratelimit.writes-per-second}
+ *     with bursts of {@code blogposts.ratelimit.burst}. Clients are identified by the request's
+ *     remote address; behind a trusted proxy that is the client address from
+ *     {@code X-Forwarded-For} (see {@code server.forward-headers-strategy}), not the proxy's.
+ *     Buckets are lock-free and live in a Caffeine map that forgets idle clients.</li>
+ *     <li>A global cap of {@code blogposts.ratelimit.max-concurrent-writes} writes in progress.
+ *     Keep it below the connection pool size so reads always find a free connection. A write
+ *     that finds the cap reached waits up to {@code blogposts.ratelimit.queue-timeout} for a
+ *     slot.</li>
+ * </ol>
+ * A rejected write gets {@code 429 Too Many Requests} with a {@code Retry-After} header.
+ * Reads are never limited. Rejections, queue wait time and writes in progress are published
+ * as {@code blogposts.ratelimit.*} meters.
+ */
+@Component
+public class WriteAdmissionFilter extends OncePerRequestFilter {
+
+    private final boolean enabled;
+    private final double writesPerSecond;
+    private final int burst;
+    private final long queueTimeoutNanos;
+    private final Semaphore writeSlots;
+    private final int maxConcurrentWrites;
+    private final Cache<String, TokenBucket> buckets;
+    private final ObjectMapper objectMapper;
+
+    private final Counter rateLimited;
+    private final Counter concurrencyLimited;
+    private final Timer queueWait;
+
+    public WriteAdmissionFilter(@Value("${blogposts.ratelimit.enabled:true}") boolean enabled,
+                                @Value("${blogposts.ratelimit.writes-per-second:20}") double writesPerSecond,
+                                @Value("${blogposts.ratelimit.burst:40}") int burst,
+                                @Value("${blogposts.ratelimit.max-concurrent-writes:10}") int maxConcurrentWrites,
+                                @Value("${blogposts.ratelimit.queue-timeout:100ms}") Duration queueTimeout,
+                                @Value("${blogposts.ratelimit.client-idle-expiry:10m}") Duration clientIdleExpiry,
+                                ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.writesPerSecond = writesPerSecond;
+        this.burst = burst;
+        this.queueTimeoutNanos = queueTimeout.toNanos();
+        this.maxConcurrentWrites = maxConcurrentWrites;
+        this.writeSlots = new Semaphore(maxConcurrentWrites);
+        this.buckets = Caffeine.newBuilder()
+                .expireAfterAccess(clientIdleExpiry)
+                .build();
+        this.objectMapper = objectMapper;
+
+        this.rateLimited = Counter.builder("blogposts.ratelimit.rejected")
+                .tag("reason", "rate")
+                .description("Writes rejected because the client exceeded its rate")
+                .register(meterRegistry);
+        this.concurrencyLimited = Counter.builder("blogposts.ratelimit.rejected")
+                .tag("reason", "concurrency")
+                .description("Writes rejected because too many writes were already in progress")
+                .register(meterRegistry);
+        this.queueWait = Timer.builder("blogposts.ratelimit.queue.wait")
+                .description("Time admitted writes waited for a free write slot")
+                .register(meterRegistry);
+        Gauge.builder("blogposts.ratelimit.writes.active", writeSlots,
+                        slots -> maxConcurrentWrites - slots.availablePermits())
+                .description("Writes currently in progress")
+                .register(meterRegistry);
+        Gauge.builder("blogposts.ratelimit.clients", buckets, cache -> cache.estimatedSize())
+                .description("Clients with a live rate limit bucket")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!enabled || !request.getRequestURI().startsWith("/api/")) {
+            return true;
+        }
+        String method = request.getMethod();
+        return !(HttpMethod.POST.matches(method) || HttpMethod.PUT.matches(method)
+                || HttpMethod.PATCH.matches(method) || HttpMethod.DELETE.matches(method));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long now = System.nanoTime();
+        // Already the forwarded client address when the request came through a trusted proxy
+        TokenBucket bucket = buckets.get(request.getRemoteAddr(), client -> new TokenBucket(writesPerSecond, burst, now));
+        long wait = bucket.tryAcquire(now);
+        if (wait > 0) {
+            rateLimited.increment();
+            reject(response, wait, "Write rate limit exceeded; retry later");
+            return;
+        }
+
+        boolean admitted = writeSlots.tryAcquire();
+        if (!admitted) {
+            long queued = System.nanoTime();
+            try {
+                admitted = writeSlots.tryAcquire(queueTimeoutNanos, TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            queueWait.record(System.nanoTime() - queued, TimeUnit.NANOSECONDS);
+        }
+        if (!admitted) {
+            concurrencyLimited.increment();
+            reject(response, queueTimeoutNanos, "Too many writes in progress; retry later");
+            return;
+        }
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            writeSlots.release();
+        }
+    }
+
+    private void reject(HttpServletResponse response, long retryAfterNanos, String message) throws IOException {
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(retryAfterNanos + 999_999_999L));
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(),
+                new ErrorResponse(LocalDateTime.now(), HttpStatus.TOO_MANY_REQUESTS.value(), message));
+    }
+}
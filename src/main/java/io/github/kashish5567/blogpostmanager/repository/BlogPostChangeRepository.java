@@ -0,0 +1,52 @@
+package io.github.kashish5567.blogpostmanager.repository;
+
+import io.github.kashish5567.blogpostmanager.model.BlogPostChange;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository for the append-only {@link BlogPostChange} log.
+ */
+@Repository
+public interface BlogPostChangeRepository extends JpaRepository<BlogPostChange, Long> {
+
+    /**
+     * Finds the changes after a given sequence, oldest first.
+     *
+     * @param seq the last sequence already seen
+     * @param pageable the maximum number of changes; only {@link Pageable#getPageSize()} is used
+     * @return up to one page of changes
+     */
+    @Query("SELECT c FROM BlogPostChange c WHERE c.seq > ?1 ORDER BY c.seq ASC")
+    List<BlogPostChange> findAfter(long seq, Pageable pageable);
+
+    /**
+     * Returns the highest sequence in the log, or 0 if it is empty.
+     */
+    @Query("SELECT COALESCE(MAX(c.seq), 0) FROM BlogPostChange c")
+    long findLatestSeq();
+
+    /**
+     * Returns the lowest sequence still in the log, or 0 if it is empty.
+     */
+    @Query("SELECT COALESCE(MIN(c.seq), 0) FROM BlogPostChange c")
+    long findOldestSeq();
+
+    /**
+     * Deletes changes recorded before the given time.
+     *
+     * @param before the cut-off time (exclusive)
+     * @return the number of changes deleted
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM BlogPostChange c WHERE c.changedAt < ?1")
+    int deleteOlderThan(LocalDateTime before);
+}
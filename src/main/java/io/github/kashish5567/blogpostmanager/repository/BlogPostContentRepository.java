@@ -0,0 +1,31 @@
+package io.github.kashish5567.blogpostmanager.repository;
+
+import io.github.kashish5567.blogpostmanager.model.BlogPostContent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Repository for the bodies of blog posts, stored apart from the posts themselves.
+ * Use {@link BlogPostContentStore} rather than this interface directly, so that bodies
+ * are compressed consistently.
+ */
+@Repository
+public interface BlogPostContentRepository extends JpaRepository<BlogPostContent, Long> {
+
+    /**
+     * Replaces the body of a post in a single {@code UPDATE}, without loading it first.
+     *
+     * @param postId the ID of the blog post
+     * @param body the new body as plain text, or null if it is stored compressed
+     * @param compressedBody the new body deflated, or null if it is stored as plain text
+     * @param contentLength the length of the new content in characters
+     * @return the number of rows updated; 0 if the post has no body
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE BlogPostContent c SET c.body = ?2, c.compressedBody = ?3, c.contentLength = ?4 WHERE c.postId = ?1")
+    int replace(long postId, String body, byte[] compressedBody, int contentLength);
+}
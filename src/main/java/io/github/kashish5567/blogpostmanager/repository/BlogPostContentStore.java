@@ -0,0 +1,104 @@
+package io.github.kashish5567.blogpostmanager.repository;
+
+import io.github.kashish5567.blogpostmanager.model.BlogPost;
+import io.github.kashish5567.blogpostmanager.model.BlogPostContent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Reads and writes post bodies in the {@code blog_post_contents} table.
+ * <p>
+ * {@link BlogPost#getContent()} is not mapped by JPA, so a post loaded through
+ * {@link BlogPostRepository} has no content until it is passed to {@link #load(BlogPost)} or
+ * {@link #loadAll(Collection)}. Write paths insert or replace the body in the same transaction
+ * as the post. Bodies above {@code blogposts.content.compression-threshold} are stored compressed.
+ */
+@Component
+public class BlogPostContentStore {
+
+    private final BlogPostContentRepository contentRepository;
+    private final int compressionThreshold;
+
+    public BlogPostContentStore(BlogPostContentRepository contentRepository,
+                                @Value("${blogposts.content.compression-threshold:8KB}") DataSize compressionThreshold) {
+        this.contentRepository = contentRepository;
+        this.compressionThreshold = (int) compressionThreshold.toBytes();
+    }
+
+    /**
+     * Fills in the content of a post loaded from the repository.
+     *
+     * @param post the post, or null
+     * @return the same post, for chaining
+     */
+    public BlogPost load(BlogPost post) {
+        if (post != null) {
+            post.setContent(contentRepository.findById(post.getId()).map(BlogPostContent::getContent).orElse(null));
+        }
+        return post;
+    }
+
+    /**
+     * Fills in the content of several posts with a single query.
+     *
+     * @param posts the posts
+     * @return the same posts, for chaining
+     */
+    public <C extends Collection<BlogPost>> C loadAll(C posts) {
+        Map<Long, BlogPostContent> contents = findAll(posts.stream().map(BlogPost::getId).toList());
+        for (BlogPost post : posts) {
+            BlogPostContent content = contents.get(post.getId());
+            post.setContent(content == null ? null : content.getContent());
+        }
+        return posts;
+    }
+
+    /**
+     * Loads the bodies of several posts as managed entities, to be changed with
+     * {@link #update(BlogPostContent, String)} inside the current transaction.
+     *
+     * @param postIds the IDs of the posts
+     * @return the bodies by post ID
+     */
+    public Map<Long, BlogPostContent> findAll(Collection<Long> postIds) {
+        return contentRepository.findAllById(postIds).stream()
+                .collect(Collectors.toMap(BlogPostContent::getPostId, Function.identity()));
+    }
+
+    /**
+     * Stores the body of a post that has just been saved. Must run in the post's transaction.
+     *
+     * @param post the new post, with its ID assigned
+     */
+    public void insert(BlogPost post) {
+        contentRepository.save(BlogPostContent.of(post.getId(), post.getContent(), compressionThreshold));
+    }
+
+    /**
+     * Changes a managed body; the change is written when the transaction commits.
+     *
+     * @param content the body loaded by {@link #findAll(Collection)}
+     * @param newContent the new content
+     */
+    public void update(BlogPostContent content, String newContent) {
+        content.setContent(newContent, compressionThreshold);
+    }
+
+    /**
+     * Replaces the body of a post with a single {@code UPDATE}.
+     *
+     * @param postId the ID of the post
+     * @param newContent the new content
+     * @return the number of rows updated; 0 if the post has no body
+     */
+    public int replace(long postId, String newContent) {
+        BlogPostContent content = BlogPostContent.of(postId, newContent, compressionThreshold);
+        return contentRepository.replace(postId, content.getBody(), content.getCompressedBody(), content.getContentLength());
+    }
+}
@@ -1,13 +1,25 @@
 package io.github.kashish5567.blogpostmanager.repository;
 
+import io.github.kashish5567.blogpostmanager.model.AuthorPostCount;
 import io.github.kashish5567.blogpostmanager.model.BlogPost;
+import io.github.kashish5567.blogpostmanager.model.BlogPostSummary;
+import io.github.kashish5567.blogpostmanager.model.PeriodPostCount;
+import io.github.kashish5567.blogpostmanager.model.PublicationCounts;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for managing {@link BlogPost} entities in the database.
@@ -29,6 +41,24 @@ import java.util.Optional;
 @Repository
 public interface BlogPostRepository extends JpaRepository<BlogPost, Long> {
 
+    /**
+     * Expected version that matches any version of a post, for unconditional updates.
+     */
+    long ANY_VERSION = -1;
+
+    /**
+     * Rows fetched per round trip by {@link #streamAllWithContentOrderedByCreatedAt()}.
+     */
+    int STREAM_FETCH_SIZE = 500;
+
+    /**
+     * Select clause shared by every query that returns a {@link BlogPostSummary}.
+     * The content column is deliberately left out.
+     */
+    String SELECT_SUMMARY = "SELECT new io.github.kashish5567.blogpostmanager.model.BlogPostSummary(" +
+            "b.id, b.title, b.author, b.coverImage, b.published, b.createdAt, " +
+            "b.slug, b.excerpt, b.wordCount, b.readingTimeMinutes) FROM BlogPost b ";
+
     /**
      * Finds a blog post by its title.
      *
@@ -69,5 +99,304 @@ public interface BlogPostRepository extends JpaRepository<BlogPost, Long> {
      */
     @Query("SELECT b FROM BlogPost b WHERE b.createdAt BETWEEN ?1 AND ?2 ORDER BY b.createdAt ASC")
     List<BlogPost> findPostsInDateRange(LocalDateTime startDate, LocalDateTime endDate);
-}
 
+    /**
+     * Finds summaries of all blog posts authored by a specific person.
+     *
+     * @param author the author's name
+     * @return a list of blog post summaries by that author, newest first
+     */
+    @Query(SELECT_SUMMARY + "WHERE b.author = ?1 ORDER BY b.createdAt DESC")
+    List<BlogPostSummary> findSummariesByAuthor(String author);
+
+    /**
+     * Finds summaries of all published blog posts.
+     *
+     * @return a list of published blog post summaries, newest first
+     */
+    @Query(SELECT_SUMMARY + "WHERE b.published = true ORDER BY b.createdAt DESC")
+    List<BlogPostSummary> findPublishedSummaries();
+
+    /**
+     * Finds summaries of blog posts created between a date range, ordered by creation time.
+     *
+     * @param startDate start date (inclusive)
+     * @param endDate end date (inclusive)
+     * @return a list of blog post summaries created within the range
+     */
+    @Query(SELECT_SUMMARY + "WHERE b.createdAt BETWEEN ?1 AND ?2 ORDER BY b.createdAt ASC")
+    List<BlogPostSummary> findSummariesInDateRange(LocalDateTime startDate, LocalDateTime endDate);
+
+    /**
+     * Counts posts and published posts per author, most prolific first.
+     *
+     * @return one row per author
+     */
+    @Query("SELECT new io.github.kashish5567.blogpostmanager.model.AuthorPostCount(b.author, COUNT(b), " +
+            "SUM(CASE WHEN b.published = true THEN 1 ELSE 0 END)) FROM BlogPost b " +
+            "GROUP BY b.author ORDER BY COUNT(b) DESC, b.author ASC")
+    List<AuthorPostCount> countByAuthor();
+
+    /**
+     * Counts posts and published posts per author among posts created in a time range.
+     *
+     * @param start start of the range (inclusive)
+     * @param end end of the range (exclusive)
+     * @return one row per author with posts in the range, most prolific first
+     */
+    @Query("SELECT new io.github.kashish5567.blogpostmanager.model.AuthorPostCount(b.author, COUNT(b), " +
+            "SUM(CASE WHEN b.published = true THEN 1 ELSE 0 END)) FROM BlogPost b " +
+            "WHERE b.createdAt >= ?1 AND b.createdAt < ?2 " +
+            "GROUP BY b.author ORDER BY COUNT(b) DESC, b.author ASC")
+    List<AuthorPostCount> countByAuthorInRange(LocalDateTime start, LocalDateTime end);
+
+    /**
+     * Counts posts created on each day of a time range. Days without posts are omitted.
+     *
+     * @param start start of the range (inclusive)
+     * @param end end of the range (exclusive)
+     * @return one row per day, oldest first
+     */
+    @Query("SELECT new io.github.kashish5567.blogpostmanager.model.PeriodPostCount(" +
+            "CAST(b.createdAt AS LocalDate), COUNT(b)) FROM BlogPost b " +
+            "WHERE b.createdAt >= ?1 AND b.createdAt < ?2 " +
+            "GROUP BY CAST(b.createdAt AS LocalDate) ORDER BY CAST(b.createdAt AS LocalDate) ASC")
+    List<PeriodPostCount> countByDayInRange(LocalDateTime start, LocalDateTime end);
+
+    /**
+     * Counts all posts and published posts.
+     *
+     * @return the totals
+     */
+    @Query("SELECT new io.github.kashish5567.blogpostmanager.model.PublicationCounts(COUNT(b), " +
+            "COALESCE(SUM(CASE WHEN b.published = true THEN 1 ELSE 0 END), 0)) FROM BlogPost b")
+    PublicationCounts countPublication();
+
+    /**
+     * Counts posts and published posts among posts created in a time range.
+     *
+     * @param start start of the range (inclusive)
+     * @param end end of the range (exclusive)
+     * @return the totals
+     */
+    @Query("SELECT new io.github.kashish5567.blogpostmanager.model.PublicationCounts(COUNT(b), " +
+            "COALESCE(SUM(CASE WHEN b.published = true THEN 1 ELSE 0 END), 0)) FROM BlogPost b " +
+            "WHERE b.createdAt >= ?1 AND b.createdAt < ?2")
+    PublicationCounts countPublicationInRange(LocalDateTime start, LocalDateTime end);
+
+    /**
+     * Finds the first page of blog post summaries in {@code (createdAt, id)} order.
+     *
+     * @param pageable the page size; only {@link Pageable#getPageSize()} is used
+     * @return the oldest blog post summaries, up to the requested page size
+     */
+    @Query(SELECT_SUMMARY + "ORDER BY b.createdAt ASC, b.id ASC")
+    List<BlogPostSummary> findFirstSummaryPage(Pageable pageable);
+
+    /**
+     * Finds the page of blog post summaries that follows the given {@code (createdAt, id)} position.
+     * <p>
+     * This is a keyset (seek) query: its cost depends only on the page size, not on how
+     * deep into the table the client has paged.
+     *
+     * @param createdAt creation time of the last post on the previous page
+     * @param id ID of the last post on the previous page
+     * @param pageable the page size; only {@link Pageable#getPageSize()} is used
+     * @return the next blog post summaries, up to the requested page size
+     */
+    @Query(SELECT_SUMMARY + "WHERE b.createdAt > ?1 OR (b.createdAt = ?1 AND b.id > ?2) " +
+            "ORDER BY b.createdAt ASC, b.id ASC")
+    List<BlogPostSummary> findSummaryPageAfter(LocalDateTime createdAt, long id, Pageable pageable);
+
+    /**
+     * Finds the summaries of the given posts, published or not.
+     *
+     * @param ids the IDs of the posts
+     * @return one summary per existing post, in no particular order
+     */
+    @Query(SELECT_SUMMARY + "WHERE b.id IN ?1")
+    List<BlogPostSummary> findSummariesByIds(Collection<Long> ids);
+
+    /**
+     * Finds which of the given titles are already taken.
+     *
+     * @param titles the titles to check
+     * @return the subset of {@code titles} used by existing posts
+     */
+    @Query("SELECT b.title FROM BlogPost b WHERE b.title IN ?1")
+    List<String> findExistingTitles(Collection<String> titles);
+
+    /**
+     * Finds which of the given IDs belong to existing blog posts.
+     *
+     * @param ids the IDs to check
+     * @return the subset of {@code ids} that exist
+     */
+    @Query("SELECT b.id FROM BlogPost b WHERE b.id IN ?1")
+    List<Long> findExistingIds(Collection<Long> ids);
+
+    /**
+     * Finds the next batch of {@code [id, title]} pairs in ID order, for building in-memory
+     * indexes without loading whole posts.
+     *
+     * @param id the ID of the last post in the previous batch, or 0 to start from the beginning
+     * @param pageable the batch size; only {@link Pageable#getPageSize()} is used
+     * @return up to one batch of {@code [Long id, String title]} rows
+     */
+    @Query("SELECT b.id, b.title FROM BlogPost b WHERE b.id > ?1 ORDER BY b.id ASC")
+    List<Object[]> findIdsAndTitlesAfter(long id, Pageable pageable);
+
+    /**
+     * Finds the current titles of the given posts.
+     *
+     * @param ids the IDs of the posts
+     * @return one {@code [Long id, String title]} row per existing post
+     */
+    @Query("SELECT b.id, b.title FROM BlogPost b WHERE b.id IN ?1")
+    List<Object[]> findIdsAndTitles(Collection<Long> ids);
+
+    /**
+     * Tells whether a blog post is currently published.
+     *
+     * @param id the ID of the blog post
+     * @return the post's published flag
+     */
+    @Query("SELECT b.published FROM BlogPost b WHERE b.id = ?1")
+    boolean isPublished(long id);
+
+    /**
+     * Finds the next batch of blog posts in ID order, for jobs that walk the whole table.
+     *
+     * @param id the ID of the last post in the previous batch, or 0 to start from the beginning
+     * @param pageable the batch size; only {@link Pageable#getPageSize()} is used
+     * @return up to one batch of blog posts with IDs greater than {@code id}
+     */
+    List<BlogPost> findByIdGreaterThanOrderByIdAsc(long id, Pageable pageable);
+
+    /**
+     * Finds posts whose derived fields are missing or were computed from an older version.
+     *
+     * @param id the ID of the last post in the previous batch, or 0 to start from the beginning
+     * @param pageable the batch size; only {@link Pageable#getPageSize()} is used
+     * @return up to one batch of IDs greater than {@code id}, in ascending order
+     */
+    @Query("SELECT b.id FROM BlogPost b WHERE b.id > ?1 AND (b.derivedVersion IS NULL OR b.derivedVersion <> b.version) " +
+            "ORDER BY b.id ASC")
+    List<Long> findIdsWithStaleDerivedContent(long id, Pageable pageable);
+
+    /**
+     * Streams every blog post together with its body in {@code (createdAt, id)} order.
+     * <p>
+     * Rows are fetched {@value #STREAM_FETCH_SIZE} at a time instead of buffering the whole result
+     * set. The MySQL driver only honours a positive fetch size with {@code useCursorFetch=true} on the
+     * datasource URL; the {@link Integer#MIN_VALUE} streaming hint it also accepts is rejected by
+     * other databases. Must be called inside a transaction, and the returned stream must be closed.
+     *
+     * @return a stream of {@code [BlogPost, BlogPostContent]} pairs
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + STREAM_FETCH_SIZE))
+    @Query("SELECT b, c FROM BlogPost b JOIN BlogPostContent c ON c.postId = b.id ORDER BY b.createdAt ASC, b.id ASC")
+    Stream<Object[]> streamAllWithContentOrderedByCreatedAt();
+
+    /**
+     * Increments the version of a blog post whose body is being replaced, in a single
+     * {@code UPDATE}. The body itself lives in {@link BlogPostContentRepository}.
+     *
+     * @param id the ID of the blog post
+     * @param expectedVersion the version the post must currently have, or {@link #ANY_VERSION}
+     * @return the number of rows updated; 0 if no post has that ID and version
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE BlogPost b SET b.version = b.version + 1 WHERE b.id = ?1 AND (?2 < 0 OR b.version = ?2)")
+    int incrementVersion(long id, long expectedVersion);
+
+    /**
+     * Sets the version promised to clients by the write-behind buffer, whose content is written
+     * in the same transaction. If the row has meanwhile moved past that version, the version
+     * is bumped by one instead, so it never goes backwards.
+     *
+     * @param id the ID of the blog post
+     * @param version the version the post should have after this write
+     * @return the number of rows updated; 0 if the post no longer exists
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE BlogPost b SET b.version = CASE WHEN b.version < ?2 THEN ?2 ELSE b.version + 1 END WHERE b.id = ?1")
+    int advanceVersion(long id, long version);
+
+    /**
+     * Replaces the title of a blog post in a single {@code UPDATE}, without loading it first.
+     *
+     * @param id the ID of the blog post
+     * @param title the new title
+     * @param expectedVersion the version the post must currently have, or {@link #ANY_VERSION}
+     * @return the number of rows updated; 0 if no post has that ID and version
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE BlogPost b SET b.title = ?2, b.version = b.version + 1 " +
+            "WHERE b.id = ?1 AND (?3 < 0 OR b.version = ?3)")
+    int updateTitle(long id, String title, long expectedVersion);
+
+    /**
+     * Replaces the author of a blog post in a single {@code UPDATE}, without loading it first.
+     *
+     * @param id the ID of the blog post
+     * @param author the new author's name
+     * @param expectedVersion the version the post must currently have, or {@link #ANY_VERSION}
+     * @return the number of rows updated; 0 if no post has that ID and version
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE BlogPost b SET b.author = ?2, b.version = b.version + 1 " +
+            "WHERE b.id = ?1 AND (?3 < 0 OR b.version = ?3)")
+    int updateAuthor(long id, String author, long expectedVersion);
+
+    /**
+     * Replaces the cover image of a blog post in a single {@code UPDATE}, without loading it first.
+     *
+     * @param id the ID of the blog post
+     * @param coverImage the new cover image URL
+     * @param expectedVersion the version the post must currently have, or {@link #ANY_VERSION}
+     * @return the number of rows updated; 0 if no post has that ID and version
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE BlogPost b SET b.coverImage = ?2, b.version = b.version + 1 " +
+            "WHERE b.id = ?1 AND (?3 < 0 OR b.version = ?3)")
+    int updateCoverImage(long id, String coverImage, long expectedVersion);
+
+    /**
+     * Flips the published flag of a blog post. The new value is computed by the database from
+     * the current one, so concurrent toggles are never lost.
+     *
+     * @param id the ID of the blog post
+     * @param expectedVersion the version the post must currently have, or {@link #ANY_VERSION}
+     * @return the number of rows updated; 0 if no post has that ID and version
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE BlogPost b SET b.published = CASE WHEN b.published = true THEN false ELSE true END, " +
+            "b.version = b.version + 1 WHERE b.id = ?1 AND (?2 < 0 OR b.version = ?2)")
+    int togglePublished(long id, long expectedVersion);
+
+    /**
+     * Stores the derived fields of a blog post, provided it is still at the version they were
+     * computed from. Derived fields are not part of the versioned state, so the version is
+     * left unchanged.
+     *
+     * @param id the ID of the blog post
+     * @param version the version the fields were computed from
+     * @param slug the URL slug
+     * @param excerpt the excerpt
+     * @param wordCount the word count
+     * @param readingTimeMinutes the reading time
+     * @return the number of rows updated; 0 if the post was changed or deleted meanwhile
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE BlogPost b SET b.slug = ?3, b.excerpt = ?4, b.wordCount = ?5, b.readingTimeMinutes = ?6, " +
+            "b.derivedVersion = ?2 WHERE b.id = ?1 AND b.version = ?2")
+    int updateDerivedContent(long id, long version, String slug, String excerpt, int wordCount, int readingTimeMinutes);
+}
@@ -0,0 +1,12 @@
+package io.github.kashish5567.blogpostmanager.search;
+
+import io.github.kashish5567.blogpostmanager.model.BlogPostSummary;
+
+/**
+ * A single full-text search result.
+ *
+ * @param post  summary of the matching blog post
+ * @param score relevance score; higher is more relevant
+ */
+public record BlogPostSearchHit(BlogPostSummary post, double score) {
+}
@@ -0,0 +1,236 @@
+package io.github.kashish5567.blogpostmanager.search;
+
+import io.github.kashish5567.blogpostmanager.model.BlogPost;
+import io.github.kashish5567.blogpostmanager.model.BlogPostSummary;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-process inverted index over blog post titles and content.
+ * <p>
+ * Each term maps to the IDs of the posts containing it and the term's weighted frequency in
+ * each post. Title terms count {@value #TITLE_WEIGHT} times as much as content terms. Queries
+ * are ranked with BM25, and only the best {@code limit} hits are kept in a bounded min-heap,
+ * so ranking cost does not depend on how many posts match.
+ * <p>
+ * The index is maintained incrementally by the service write paths through {@link #index(BlogPost)},
+ * {@link #refreshSummary(BlogPost)} and {@link #remove(long)}. Changes to a single post are
+ * serialized; changes to different posts and searches run concurrently.
+ * <p>
+ * Each document remembers the version it was built from, and an older version never replaces a
+ * newer one, so a rebuild or another instance's update may race with local writes in any order.
+ * While a rebuild is in progress, removed posts are also remembered, so a batch the rebuild read
+ * before a delete cannot bring the deleted post back.
+ */
+@Component
+public class BlogPostSearchIndex {
+
+    private static final int TITLE_WEIGHT = 3;
+    private static final int MIN_TOKEN_LENGTH = 2;
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "by", "for", "from", "in", "is", "it",
+            "of", "on", "or", "that", "the", "this", "to", "was", "with");
+
+    private final ConcurrentMap<String, ConcurrentMap<Long, Integer>> postings = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Long, Document> documents = new ConcurrentHashMap<>();
+    private final AtomicLong totalLength = new AtomicLong();
+    private final Set<Long> tombstones = ConcurrentHashMap.newKeySet();
+    private volatile boolean rebuilding;
+
+    /**
+     * Adds a post to the index, replacing any older version of it. Does nothing if a newer
+     * version is already indexed or the post was removed during the current rebuild.
+     *
+     * @param post the post to index
+     */
+    public void index(BlogPost post) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        for (String token : tokenize(post.getTitle())) {
+            frequencies.merge(token, TITLE_WEIGHT, Integer::sum);
+        }
+        for (String token : tokenize(post.getContent())) {
+            frequencies.merge(token, 1, Integer::sum);
+        }
+        int length = frequencies.values().stream().mapToInt(Integer::intValue).sum();
+        Document document = new Document(BlogPostSummary.of(post), post.getVersion(), frequencies, length);
+
+        documents.compute(post.getId(), (id, previous) -> {
+            if (tombstones.contains(id) || previous != null && previous.version() > document.version()) {
+                return previous;
+            }
+            if (previous != null) {
+                unlink(id, previous);
+            }
+            // Added under the term's own compute, like unlink() removes, so an entry can never land
+            // in a posting map that a concurrent unlink() has just emptied and dropped
+            document.frequencies().forEach((term, frequency) -> postings.compute(term, (key, ids) -> {
+                ConcurrentMap<Long, Integer> postingIds = ids != null ? ids : new ConcurrentHashMap<>();
+                postingIds.put(id, frequency);
+                return postingIds;
+            }));
+            totalLength.addAndGet(document.length());
+            return document;
+        });
+    }
+
+    /**
+     * Removes a post from the index.
+     *
+     * @param id the ID of the deleted post
+     */
+    public void remove(long id) {
+        if (rebuilding) {
+            tombstones.add(id);
+        }
+        documents.computeIfPresent(id, (key, previous) -> {
+            unlink(key, previous);
+            return null;
+        });
+    }
+
+    /**
+     * Updates the stored summary of a post whose indexed text has not changed,
+     * such as after an author or publish status change, without re-tokenizing it.
+     *
+     * @param post the updated post; its content need not be loaded
+     */
+    public void refreshSummary(BlogPost post) {
+        documents.computeIfPresent(post.getId(), (id, previous) -> previous.version() > post.getVersion()
+                ? previous
+                : new Document(BlogPostSummary.of(post), post.getVersion(), previous.frequencies(), previous.length()));
+    }
+
+    /**
+     * Starts remembering removed posts until {@link #finishRebuild()}. Must be called before
+     * the rebuild reads its first batch.
+     */
+    public void startRebuild() {
+        rebuilding = true;
+    }
+
+    /**
+     * Stops remembering removed posts and forgets those remembered.
+     */
+    public void finishRebuild() {
+        rebuilding = false;
+        tombstones.clear();
+    }
+
+    /**
+     * Returns the posts that best match a free-text query.
+     *
+     * @param query the search terms
+     * @param limit the maximum number of hits to return
+     * @return hits ordered by descending relevance
+     */
+    public List<BlogPostSearchHit> search(String query, int limit) {
+        List<String> terms = tokenize(query);
+        int documentCount = documents.size();
+        if (terms.isEmpty() || documentCount == 0) {
+            return List.of();
+        }
+        double averageLength = Math.max(1.0, (double) totalLength.get() / documentCount);
+
+        Map<Long, Double> scores = new HashMap<>();
+        for (String term : terms.stream().distinct().toList()) {
+            Map<Long, Integer> matches = postings.get(term);
+            if (matches == null || matches.isEmpty()) {
+                continue;
+            }
+            double idf = Math.log(1 + (documentCount - matches.size() + 0.5) / (matches.size() + 0.5));
+            matches.forEach((id, frequency) -> {
+                Document document = documents.get(id);
+                if (document != null) {
+                    double norm = K1 * (1 - B + B * document.length() / averageLength);
+                    scores.merge(id, idf * frequency * (K1 + 1) / (frequency + norm), Double::sum);
+                }
+            });
+        }
+
+        PriorityQueue<Map.Entry<Long, Double>> best = new PriorityQueue<>(limit + 1, Map.Entry.comparingByValue());
+        for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+            best.offer(entry);
+            if (best.size() > limit) {
+                best.poll();
+            }
+        }
+
+        List<BlogPostSearchHit> hits = new ArrayList<>(best.size());
+        for (Map.Entry<Long, Double> entry : best) {
+            Document document = documents.get(entry.getKey());
+            if (document != null) {
+                hits.add(new BlogPostSearchHit(document.summary(), entry.getValue()));
+            }
+        }
+        hits.sort(Comparator.comparingDouble(BlogPostSearchHit::score).reversed());
+        return hits;
+    }
+
+    /**
+     * Removes every post from the index.
+     */
+    public void clear() {
+        tombstones.clear();
+        documents.clear();
+        postings.clear();
+        totalLength.set(0);
+    }
+
+    /**
+     * @return the number of indexed posts
+     */
+    public int size() {
+        return documents.size();
+    }
+
+    private void unlink(long id, Document document) {
+        for (String term : document.frequencies().keySet()) {
+            postings.computeIfPresent(term, (key, ids) -> {
+                ids.remove(id);
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+        totalLength.addAndGet(-document.length());
+    }
+
+    /**
+     * Splits text into lower-case terms on anything that is not a letter or digit,
+     * dropping stop words and single characters.
+     */
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean wordChar = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                String token = text.substring(start, i).toLowerCase(Locale.ROOT);
+                if (token.length() >= MIN_TOKEN_LENGTH && !STOP_WORDS.contains(token)) {
+                    tokens.add(token);
+                }
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+    private record Document(BlogPostSummary summary, long version, Map<String, Integer> frequencies, int length) {
+    }
+}
@@ -0,0 +1,136 @@
+package io.github.kashish5567.blogpostmanager.search;
+
+import io.github.kashish5567.blogpostmanager.changes.ChangeLog;
+import io.github.kashish5567.blogpostmanager.model.BlogPost;
+import io.github.kashish5567.blogpostmanager.model.BlogPostChange;
+import io.github.kashish5567.blogpostmanager.repository.BlogPostContentStore;
+import io.github.kashish5567.blogpostmanager.repository.BlogPostRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Builds the {@link BlogPostSearchIndex} from the database once the application has started,
+ * and keeps it up to date with writes made by other instances.
+ * <p>
+ * Posts are read in ID order, one batch at a time, so a cold rebuild never holds more than
+ * one batch of full posts in memory. Writes that happen during the rebuild are indexed by the
+ * service directly. A batch may have been read before such a write, so the index keeps the
+ * newer version and ignores posts deleted since the rebuild started.
+ * <p>
+ * Other instances' writes are picked up from the {@link ChangeLog} every
+ * {@code blogposts.search.poll-interval}, the same way the post cache is kept coherent: the
+ * changed posts are re-read and re-indexed, and deleted ones removed. Entries beyond a gap in
+ * the sequence are applied as soon as they are visible; the position in the log only moves
+ * past the gap once it has settled.
+ */
+@Component
+public class BlogPostSearchIndexLoader {
+
+    private static final Logger log = LoggerFactory.getLogger(BlogPostSearchIndexLoader.class);
+
+    private static final int PAGE_SIZE = 500;
+
+    private final BlogPostRepository blogPostRepository;
+    private final BlogPostContentStore contentStore;
+    private final BlogPostSearchIndex searchIndex;
+    private final ChangeLog changeLog;
+    private final int batchSize;
+    private final Counter remoteUpdates;
+
+    private final Set<Long> appliedAhead = new HashSet<>();
+    private volatile long watermark = -1;
+
+    public BlogPostSearchIndexLoader(BlogPostRepository blogPostRepository, BlogPostContentStore contentStore,
+                                     BlogPostSearchIndex searchIndex, ChangeLog changeLog, MeterRegistry meterRegistry,
+                                     @Value("${blogposts.search.rebuild-batch-size:500}") int batchSize) {
+        this.blogPostRepository = blogPostRepository;
+        this.contentStore = contentStore;
+        this.searchIndex = searchIndex;
+        this.changeLog = changeLog;
+        this.batchSize = batchSize;
+        this.remoteUpdates = Counter.builder("blogposts.search.remote-updates")
+                .description("Posts re-indexed or removed because another instance changed them")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.nanoTime();
+        searchIndex.startRebuild();
+        try {
+            // Read the position first, so other instances' writes during the scan are applied by poll()
+            watermark = changeLog.latestSeq();
+            long lastId = 0;
+            List<BlogPost> batch;
+            do {
+                batch = contentStore.loadAll(
+                        blogPostRepository.findByIdGreaterThanOrderByIdAsc(lastId, PageRequest.of(0, batchSize)));
+                for (BlogPost post : batch) {
+                    searchIndex.index(post);
+                    lastId = post.getId();
+                }
+            } while (batch.size() == batchSize);
+        } finally {
+            searchIndex.finishRebuild();
+        }
+        log.info("Search index built with {} posts in {} ms", searchIndex.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Re-indexes posts that other instances changed since the last poll.
+     */
+    @Scheduled(fixedDelayString = "${blogposts.search.poll-interval:1s}",
+            initialDelayString = "${blogposts.search.poll-interval:1s}")
+    public synchronized void poll() {
+        if (watermark < 0) {
+            return;
+        }
+        try {
+            List<BlogPostChange> rows;
+            long next;
+            do {
+                rows = changeLog.readUnsettled(watermark, PAGE_SIZE);
+                Set<Long> changed = new LinkedHashSet<>();
+                for (BlogPostChange change : rows) {
+                    // Entries beyond an unsettled gap are read again until it settles; apply them once
+                    if (appliedAhead.add(change.getSeq()) && !changeLog.instanceId().equals(change.getOrigin())) {
+                        changed.add(change.getPostId());
+                    }
+                }
+                apply(changed);
+                next = changeLog.settle(watermark, rows).next();
+                long settled = next;
+                appliedAhead.removeIf(seq -> seq <= settled);
+                watermark = next;
+            } while (rows.size() == PAGE_SIZE && next == rows.get(rows.size() - 1).getSeq());
+        } catch (RuntimeException e) {
+            log.warn("Reading the change log for the search index failed", e);
+        }
+    }
+
+    private void apply(Set<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        Set<Long> missing = new HashSet<>(ids);
+        for (BlogPost post : contentStore.loadAll(blogPostRepository.findAllById(ids))) {
+            searchIndex.index(post);
+            missing.remove(post.getId());
+        }
+        missing.forEach(searchIndex::remove);
+        remoteUpdates.increment(ids.size());
+    }
+}
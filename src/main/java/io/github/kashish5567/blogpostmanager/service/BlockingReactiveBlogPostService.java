@@ -0,0 +1,116 @@
+package io.github.kashish5567.blogpostmanager.service;
+
+import io.github.kashish5567.blogpostmanager.model.BlogPost;
+import io.github.kashish5567.blogpostmanager.model.BlogPostPage;
+import io.github.kashish5567.blogpostmanager.model.BlogPostSummary;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.function.Function;
+
+/**
+ * Adapts a blocking {@link BlogPostService} to {@link ReactiveBlogPostService}.
+ * <p>
+ * Every call to the delegate runs on the given scheduler, so blocking JDBC work never lands on
+ * a request or event-loop thread. The full post list is produced one keyset page at a time:
+ * a page is only queried once the subscriber has requested items beyond the previous one.
+ */
+public class BlockingReactiveBlogPostService implements ReactiveBlogPostService {
+
+    private final BlogPostService delegate;
+    private final Scheduler scheduler;
+    private final int pageSize;
+
+    public BlockingReactiveBlogPostService(BlogPostService delegate, Scheduler scheduler, int pageSize) {
+        this.delegate = delegate;
+        this.scheduler = scheduler;
+        this.pageSize = pageSize;
+    }
+
+    @Override
+    public Mono<BlogPost> createBlogPost(BlogPost blogPost) {
+        return call(() -> delegate.createBlogPost(blogPost));
+    }
+
+    @Override
+    public Flux<BlogPostSummary> getAllBlogPostSummaries() {
+        return Flux.<List<BlogPostSummary>, PageState>generate(() -> PageState.FIRST, (state, sink) -> {
+                    if (state.done()) {
+                        sink.complete();
+                        return state;
+                    }
+                    BlogPostPage page = delegate.getBlogPostPage(state.cursor(), pageSize);
+                    sink.next(page.items());
+                    return page.nextCursor() == null ? PageState.DONE : new PageState(page.nextCursor(), false);
+                })
+                .subscribeOn(scheduler)
+                // Prefetch a single page so the next query waits for downstream demand
+                .flatMapIterable(Function.identity(), 1);
+    }
+
+    @Override
+    public Flux<BlogPostSummary> getBlogPostSummariesByAuthor(String author) {
+        return call(() -> delegate.getBlogPostSummariesByAuthor(author)).flatMapIterable(Function.identity());
+    }
+
+    @Override
+    public Flux<BlogPostSummary> getPublishedBlogPostSummaries() {
+        return call(delegate::getPublishedBlogPostSummaries).flatMapIterable(Function.identity());
+    }
+
+    @Override
+    public Mono<BlogPost> getBlogPostById(long id) {
+        return call(() -> delegate.getBlogPostById(id));
+    }
+
+    @Override
+    public Mono<BlogPost> getBlogPostByTitle(String title) {
+        return call(() -> delegate.getBlogPostByTitle(title));
+    }
+
+    @Override
+    public Mono<BlogPost> updateBlogPostContent(long id, String newContent) {
+        return call(() -> delegate.updateBlogPostContent(id, newContent));
+    }
+
+    @Override
+    public Mono<BlogPost> updateBlogPostTitle(long id, String newTitle) {
+        return call(() -> delegate.updateBlogPostTitle(id, newTitle));
+    }
+
+    @Override
+    public Mono<BlogPost> updateBlogPostAuthor(long id, String newAuthor) {
+        return call(() -> delegate.updateBlogPostAuthor(id, newAuthor));
+    }
+
+    @Override
+    public Mono<BlogPost> updateBlogPostCoverImage(long id, String newCoverImageUrl) {
+        return call(() -> delegate.updateBlogPostCoverImage(id, newCoverImageUrl));
+    }
+
+    @Override
+    public Mono<BlogPost> togglePublishStatus(long id) {
+        return call(() -> delegate.togglePublishStatus(id));
+    }
+
+    @Override
+    public Mono<Boolean> deleteBlogPost(long id) {
+        return call(() -> delegate.deleteBlogPost(id));
+    }
+
+    /**
+     * Runs a delegate call on the scheduler. A null result completes the Mono empty.
+     */
+    private <T> Mono<T> call(Callable<T> operation) {
+        return Mono.fromCallable(operation).subscribeOn(scheduler);
+    }
+
+    private record PageState(String cursor, boolean done) {
+
+        static final PageState FIRST = new PageState(null, false);
+        static final PageState DONE = new PageState(null, true);
+    }
+}
@@ -1,31 +1,81 @@
 package io.github.kashish5567.blogpostmanager.service;
 
-import io.github.kashish5567.blogpostmanager.exceptions.BlogPostNotFoundException;
-import io.github.kashish5567.blogpostmanager.exceptions.BlogPostValidationException;
+import io.github.kashish5567.blogpostmanager.exception.BlogPostNotFoundException;
+import io.github.kashish5567.blogpostmanager.exception.InvalidBlogPostException;
+import io.github.kashish5567.blogpostmanager.exception.InvalidCursorException;
+import io.github.kashish5567.blogpostmanager.exception.VersionConflictException;
+import io.github.kashish5567.blogpostmanager.model.BatchItemResult;
 import io.github.kashish5567.blogpostmanager.model.BlogPost;
+import io.github.kashish5567.blogpostmanager.model.BlogPostBatchUpdate;
+import io.github.kashish5567.blogpostmanager.model.BlogPostPage;
+import io.github.kashish5567.blogpostmanager.model.BlogPostSummary;
+import io.github.kashish5567.blogpostmanager.search.BlogPostSearchHit;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface BlogPostService {
 
-    BlogPost createBlogPost(BlogPost blogPost) throws BlogPostValidationException;
+    BlogPost createBlogPost(BlogPost blogPost) throws InvalidBlogPostException;
 
-    List<BlogPost> getAllBlogPosts() throws BlogPostNotFoundException;
+    List<BatchItemResult> createBlogPosts(List<BlogPost> blogPosts);
+
+    List<BatchItemResult> updateBlogPosts(List<BlogPostBatchUpdate> updates);
+
+    List<BatchItemResult> deleteBlogPosts(List<Long> ids);
+
+    BlogPostPage getBlogPostPage(String cursor, int size) throws InvalidCursorException;
+
+    void forEachBlogPost(Consumer<BlogPost> action);
+
+    List<BlogPostSummary> getBlogPostSummariesByAuthor(String author);
+
+    List<BlogPostSummary> getPublishedBlogPostSummaries();
+
+    BlogPostPage getPublishedBlogPostPage(String cursor, int size) throws InvalidCursorException;
+
+    List<BlogPostSummary> getBlogPostSummariesInDateRange(LocalDateTime startDate, LocalDateTime endDate);
+
+    List<BlogPostSearchHit> searchBlogPosts(String query, int limit);
 
     BlogPost getBlogPostById(long id) throws BlogPostNotFoundException;
 
     BlogPost getBlogPostByTitle(String title) throws BlogPostNotFoundException;
 
-    BlogPost updateBlogPostContent(long id, String newContent) throws BlogPostValidationException;
+    default BlogPost updateBlogPostContent(long id, String newContent) throws InvalidBlogPostException {
+        return updateBlogPostContent(id, newContent, null);
+    }
+
+    BlogPost updateBlogPostContent(long id, String newContent, Long expectedVersion)
+            throws InvalidBlogPostException, VersionConflictException;
+
+    default BlogPost updateBlogPostTitle(long id, String newTitle) throws InvalidBlogPostException {
+        return updateBlogPostTitle(id, newTitle, null);
+    }
+
+    BlogPost updateBlogPostTitle(long id, String newTitle, Long expectedVersion)
+            throws InvalidBlogPostException, VersionConflictException;
 
-    BlogPost updateBlogPostTitle(long id, String newTitle) throws BlogPostValidationException;
+    default BlogPost updateBlogPostAuthor(long id, String newAuthor) throws InvalidBlogPostException {
+        return updateBlogPostAuthor(id, newAuthor, null);
+    }
 
-    BlogPost updateBlogPostAuthor(long id, String newAuthor) throws BlogPostValidationException;
+    BlogPost updateBlogPostAuthor(long id, String newAuthor, Long expectedVersion)
+            throws InvalidBlogPostException, VersionConflictException;
 
-    BlogPost updateBlogPostCoverImage(long id, String newCoverImageUrl) throws BlogPostValidationException;
+    default BlogPost updateBlogPostCoverImage(long id, String newCoverImageUrl) throws InvalidBlogPostException {
+        return updateBlogPostCoverImage(id, newCoverImageUrl, null);
+    }
 
-    BlogPost togglePublishStatus(long id) throws BlogPostNotFoundException;
+    BlogPost updateBlogPostCoverImage(long id, String newCoverImageUrl, Long expectedVersion)
+            throws InvalidBlogPostException, VersionConflictException;
+
+    default BlogPost togglePublishStatus(long id) throws BlogPostNotFoundException {
+        return togglePublishStatus(id, null);
+    }
+
+    BlogPost togglePublishStatus(long id, Long expectedVersion) throws BlogPostNotFoundException, VersionConflictException;
 
     boolean deleteBlogPost(long id) throws BlogPostNotFoundException;
 }
-
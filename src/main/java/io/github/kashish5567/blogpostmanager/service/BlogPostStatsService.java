@@ -0,0 +1,128 @@
+package io.github.kashish5567.blogpostmanager.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.kashish5567.blogpostmanager.exception.InvalidBlogPostException;
+import io.github.kashish5567.blogpostmanager.model.AuthorPostCount;
+import io.github.kashish5567.blogpostmanager.model.PeriodPostCount;
+import io.github.kashish5567.blogpostmanager.model.PublicationCounts;
+import io.github.kashish5567.blogpostmanager.model.StatsInterval;
+import io.github.kashish5567.blogpostmanager.repository.BlogPostRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Reporting counts over blog posts.
+ * <p>
+ * All counting and grouping happens in the database, so a report never loads posts into
+ * memory; only the aggregated rows come back. Timelines are grouped by day in the database
+ * and rolled up into weeks or months here, which keeps the queries portable and touches at
+ * most one row per day.
+ * <p>
+ * Results are cached for {@code blogposts.stats.ttl}, so dashboards that refresh often do not
+ * repeat the same scans. A report can therefore lag behind writes by up to that long.
+ */
+@Service
+public class BlogPostStatsService {
+
+    private final BlogPostRepository blogPostRepository;
+    private final Cache<StatsKey, Object> results;
+
+    public BlogPostStatsService(BlogPostRepository blogPostRepository,
+                                @Value("${blogposts.stats.ttl:30s}") Duration ttl,
+                                @Value("${blogposts.stats.maximum-size:1000}") long maximumSize,
+                                MeterRegistry meterRegistry) {
+        this.blogPostRepository = blogPostRepository;
+        this.results = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, results, "blogPostStats");
+    }
+
+    /**
+     * Counts posts per author, most prolific first.
+     *
+     * @param from first day to count (inclusive), or null to count from the beginning
+     * @param to last day to count (inclusive), or null to count up to now
+     * @return one entry per author
+     * @throws InvalidBlogPostException if {@code from} is after {@code to}
+     */
+    @SuppressWarnings("unchecked")
+    public List<AuthorPostCount> getPostsPerAuthor(LocalDate from, LocalDate to) {
+        requireValidRange(from, to);
+        return (List<AuthorPostCount>) results.get(new StatsKey("authors", from, to, null), key -> from == null && to == null
+                ? blogPostRepository.countByAuthor()
+                : blogPostRepository.countByAuthorInRange(startOf(from), endOf(to)));
+    }
+
+    /**
+     * Counts posts created per day, week or month. Periods without posts are omitted.
+     *
+     * @param from first day to count (inclusive)
+     * @param to last day to count (inclusive)
+     * @param interval the period length
+     * @return one entry per period, oldest first
+     * @throws InvalidBlogPostException if {@code from} is after {@code to}
+     */
+    @SuppressWarnings("unchecked")
+    public List<PeriodPostCount> getPostsPerPeriod(LocalDate from, LocalDate to, StatsInterval interval) {
+        requireValidRange(from, to);
+        return (List<PeriodPostCount>) results.get(new StatsKey("timeline", from, to, interval), key -> {
+            List<PeriodPostCount> days = blogPostRepository.countByDayInRange(startOf(from), endOf(to));
+            if (interval == StatsInterval.DAY) {
+                return days;
+            }
+            Map<LocalDate, Long> periods = new TreeMap<>();
+            for (PeriodPostCount day : days) {
+                periods.merge(interval.periodStart(day.periodStart()), day.posts(), Long::sum);
+            }
+            List<PeriodPostCount> counts = new ArrayList<>(periods.size());
+            periods.forEach((periodStart, posts) -> counts.add(new PeriodPostCount(periodStart, posts)));
+            return counts;
+        });
+    }
+
+    /**
+     * Counts published and draft posts.
+     *
+     * @param from first day to count (inclusive), or null to count from the beginning
+     * @param to last day to count (inclusive), or null to count up to now
+     * @return the totals
+     * @throws InvalidBlogPostException if {@code from} is after {@code to}
+     */
+    public PublicationCounts getPublicationCounts(LocalDate from, LocalDate to) {
+        requireValidRange(from, to);
+        return (PublicationCounts) results.get(new StatsKey("publication", from, to, null), key -> from == null && to == null
+                ? blogPostRepository.countPublication()
+                : blogPostRepository.countPublicationInRange(startOf(from), endOf(to)));
+    }
+
+    private static LocalDateTime startOf(LocalDate from) {
+        return from == null ? LocalDate.of(1970, 1, 1).atStartOfDay() : from.atStartOfDay();
+    }
+
+    private static LocalDateTime endOf(LocalDate to) {
+        return (to == null ? LocalDate.now() : to).plusDays(1).atStartOfDay();
+    }
+
+    private static void requireValidRange(LocalDate from, LocalDate to) {
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new InvalidBlogPostException("Start date must not be after end date");
+        }
+    }
+
+    private record StatsKey(String report, LocalDate from, LocalDate to, StatsInterval interval) {
+    }
+}
@@ -1,89 +1,655 @@
 package io.github.kashish5567.blogpostmanager.service;
 
-import io.github.kashish5567.blogpostmanager.blog.exceptions.BlogPostNotFoundException;
-import io.github.kashish5567.blogpostmanager.blog.exceptions.InvalidBlogPostException;
-import io.github.kashish5567.blogpostmanager.blog.model.BlogPost;
-import io.github.kashish5567.blogpostmanager.blog.repository.BlogPostRepository;
+import io.github.kashish5567.blogpostmanager.cache.BlogPostCache;
+import io.github.kashish5567.blogpostmanager.cache.BlogPostWriteBuffer;
+import io.github.kashish5567.blogpostmanager.changes.ChangeLog;
+import io.github.kashish5567.blogpostmanager.derived.DerivedContentPipeline;
+import io.github.kashish5567.blogpostmanager.exception.BlogPostNotFoundException;
+import io.github.kashish5567.blogpostmanager.feed.PublishedFeed;
+import io.github.kashish5567.blogpostmanager.membership.BlogPostMembershipIndex;
+import io.github.kashish5567.blogpostmanager.exception.DuplicateTitleException;
+import io.github.kashish5567.blogpostmanager.exception.InvalidBlogPostException;
+import io.github.kashish5567.blogpostmanager.exception.VersionConflictException;
+import io.github.kashish5567.blogpostmanager.model.BatchItemResult;
+import io.github.kashish5567.blogpostmanager.model.BlogPost;
+import io.github.kashish5567.blogpostmanager.model.BlogPostBatchUpdate;
+import io.github.kashish5567.blogpostmanager.model.BlogPostContent;
+import io.github.kashish5567.blogpostmanager.model.BlogPostCursor;
+import io.github.kashish5567.blogpostmanager.model.BlogPostPage;
+import io.github.kashish5567.blogpostmanager.model.BlogPostSummary;
+import io.github.kashish5567.blogpostmanager.model.ChangeType;
+import io.github.kashish5567.blogpostmanager.repository.BlogPostContentStore;
+import io.github.kashish5567.blogpostmanager.repository.BlogPostRepository;
+import io.github.kashish5567.blogpostmanager.search.BlogPostSearchHit;
+import io.github.kashish5567.blogpostmanager.search.BlogPostSearchIndex;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.PersistenceContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 @Service
+@Timed(value = "blogposts.service", description = "Latency of DatabaseBlogPostService methods")
 public class DatabaseBlogPostService implements BlogPostService {
 
+    private static final String TITLE_UNIQUE_INDEX = "uk_blog_posts_title";
+
     private final BlogPostRepository blogPostRepository;
+    private final BlogPostContentStore contentStore;
+    private final BlogPostCache blogPostCache;
+    private final BlogPostWriteBuffer writeBuffer;
+    private final BlogPostSearchIndex searchIndex;
+    private final PublishedFeed publishedFeed;
+    private final DerivedContentPipeline derivedContentPipeline;
+    private final ChangeLog changeLog;
+    private final BlogPostMembershipIndex membershipIndex;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final int batchChunkSize;
+
+    @PersistenceContext
+    private EntityManager entityManager;
 
     @Autowired
-    public DatabaseBlogPostService(BlogPostRepository blogPostRepository) {
+    public DatabaseBlogPostService(BlogPostRepository blogPostRepository, BlogPostContentStore contentStore,
+                                   BlogPostCache blogPostCache,
+                                   BlogPostWriteBuffer writeBuffer, BlogPostSearchIndex searchIndex,
+                                   PublishedFeed publishedFeed, DerivedContentPipeline derivedContentPipeline,
+                                   ChangeLog changeLog, BlogPostMembershipIndex membershipIndex,
+                                   TransactionTemplate transactionTemplate,
+                                   Validator validator, @Value("${blogposts.batch.chunk-size:50}") int batchChunkSize) {
         this.blogPostRepository = blogPostRepository;
+        this.contentStore = contentStore;
+        this.blogPostCache = blogPostCache;
+        this.writeBuffer = writeBuffer;
+        this.searchIndex = searchIndex;
+        this.publishedFeed = publishedFeed;
+        this.derivedContentPipeline = derivedContentPipeline;
+        this.changeLog = changeLog;
+        this.membershipIndex = membershipIndex;
+        this.transactionTemplate = transactionTemplate;
+        this.validator = validator;
+        this.batchChunkSize = batchChunkSize;
+        writeBuffer.onFlush(this::refresh);
     }
 
     @Override
-    public BlogPost createPost(BlogPost blogPost) {
+    public BlogPost createBlogPost(BlogPost blogPost) {
         if (blogPost == null || blogPost.getTitle() == null || blogPost.getTitle().isEmpty()) {
             throw new InvalidBlogPostException("Blog title must not be null or empty");
         }
-        return blogPostRepository.save(blogPost);
+        // IDs and versions are always assigned by the database for new posts
+        blogPost.setId(0);
+        blogPost.setVersion(0);
+        return saveAndCache(blogPost);
+    }
+
+    /**
+     * Creates many posts at once. Every post is validated up front; the valid ones are inserted
+     * in chunks of {@code blogposts.batch.chunk-size}, one transaction and one JDBC batch per chunk.
+     * If a chunk is rejected by the database, its posts are retried one at a time so that only
+     * the offending posts are reported as failed.
+     */
+    @Override
+    public List<BatchItemResult> createBlogPosts(List<BlogPost> blogPosts) {
+        BatchItemResult[] results = new BatchItemResult[blogPosts.size()];
+        Set<String> titles = new HashSet<>();
+        List<Integer> accepted = new ArrayList<>();
+        for (int i = 0; i < blogPosts.size(); i++) {
+            BlogPost blogPost = blogPosts.get(i);
+            String error = blogPost == null ? "Blog post must not be null" : violationsOf(validator.validate(blogPost));
+            if (error == null && !titles.add(blogPost.getTitle())) {
+                error = "Duplicate title in batch: '" + blogPost.getTitle() + "'";
+            }
+            if (error == null) {
+                // IDs and versions are always assigned by the database for new posts
+                blogPost.setId(0);
+                blogPost.setVersion(0);
+                accepted.add(i);
+            } else {
+                results[i] = BatchItemResult.failed(i, null, error);
+            }
+        }
+
+        for (List<Integer> chunk : chunks(accepted)) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    for (int i : chunk) {
+                        BlogPost saved = blogPostRepository.save(blogPosts.get(i));
+                        contentStore.insert(saved);
+                        changeLog.record(saved.getId(), ChangeType.CREATED);
+                    }
+                    blogPostRepository.flush();
+                });
+                for (int i : chunk) {
+                    BlogPost saved = blogPosts.get(i);
+                    refresh(saved);
+                    results[i] = BatchItemResult.succeeded(i, saved.getId());
+                }
+            } catch (DataIntegrityViolationException e) {
+                for (int i : chunk) {
+                    BlogPost blogPost = blogPosts.get(i);
+                    blogPost.setId(0);
+                    try {
+                        results[i] = BatchItemResult.succeeded(i, saveAndCache(blogPost).getId());
+                    } catch (DuplicateTitleException | DataIntegrityViolationException ex) {
+                        results[i] = BatchItemResult.failed(i, null, ex.getMessage());
+                    }
+                }
+            }
+        }
+        return Arrays.asList(results);
+    }
+
+    /**
+     * Applies many partial updates at once. Each chunk loads its posts with a single query and
+     * lets Hibernate flush the changed rows as one JDBC batch when the chunk's transaction commits.
+     */
+    @Override
+    public List<BatchItemResult> updateBlogPosts(List<BlogPostBatchUpdate> updates) {
+        BatchItemResult[] results = new BatchItemResult[updates.size()];
+        List<Integer> accepted = new ArrayList<>();
+        for (int i = 0; i < updates.size(); i++) {
+            String error = violationsOf(updates.get(i));
+            if (error == null) {
+                accepted.add(i);
+            } else {
+                results[i] = BatchItemResult.failed(i, updates.get(i).id(), error);
+            }
+        }
+
+        writeBuffer.flush(accepted.stream().map(i -> updates.get(i).id()).toList());
+        for (List<Integer> chunk : chunks(accepted)) {
+            try {
+                applyUpdates(chunk, updates, results);
+            } catch (DataIntegrityViolationException e) {
+                for (int i : chunk) {
+                    try {
+                        applyUpdates(List.of(i), updates, results);
+                    } catch (DataIntegrityViolationException ex) {
+                        String error = isTitleConflict(ex)
+                                ? "A blog post with title '" + updates.get(i).title() + "' already exists"
+                                : ex.getMessage();
+                        results[i] = BatchItemResult.failed(i, updates.get(i).id(), error);
+                    }
+                }
+            }
+        }
+        return Arrays.asList(results);
+    }
+
+    /**
+     * Deletes many posts at once, issuing one {@code DELETE ... WHERE id IN (...)} per chunk.
+     */
+    @Override
+    public List<BatchItemResult> deleteBlogPosts(List<Long> ids) {
+        BatchItemResult[] results = new BatchItemResult[ids.size()];
+        List<Integer> indexes = IntStream.range(0, ids.size()).boxed().toList();
+        for (List<Integer> chunk : chunks(indexes)) {
+            List<Long> chunkIds = chunk.stream().map(ids::get).distinct().toList();
+            List<Long> deleted = transactionTemplate.execute(status -> {
+                List<Long> existing = blogPostRepository.findExistingIds(chunkIds);
+                blogPostRepository.deleteAllByIdInBatch(existing);
+                existing.forEach(id -> changeLog.record(id, ChangeType.DELETED));
+                return existing;
+            });
+            Set<Long> deletedIds = new HashSet<>(deleted);
+            for (int i : chunk) {
+                long id = ids.get(i);
+                if (deletedIds.contains(id)) {
+                    writeBuffer.discard(id);
+                    blogPostCache.evict(id);
+                    searchIndex.remove(id);
+                    publishedFeed.remove(id);
+                    results[i] = BatchItemResult.succeeded(i, id);
+                } else {
+                    results[i] = BatchItemResult.failed(i, id, "Blog post with ID " + id + " not found");
+                }
+            }
+        }
+        return Arrays.asList(results);
+    }
+
+    @Override
+    public BlogPostPage getBlogPostPage(String cursor, int size) {
+        // Fetch one extra row so we know whether another page exists without a COUNT query
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<BlogPostSummary> posts;
+        if (cursor == null || cursor.isEmpty()) {
+            posts = blogPostRepository.findFirstSummaryPage(limit);
+        } else {
+            BlogPostCursor after = BlogPostCursor.decode(cursor);
+            posts = blogPostRepository.findSummaryPageAfter(after.createdAt(), after.id(), limit);
+        }
+        if (posts.size() <= size) {
+            return new BlogPostPage(posts, null);
+        }
+        List<BlogPostSummary> page = posts.subList(0, size);
+        return new BlogPostPage(page, BlogPostCursor.after(page.get(size - 1)).encode());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachBlogPost(Consumer<BlogPost> action) {
+        try (Stream<Object[]> rows = blogPostRepository.streamAllWithContentOrderedByCreatedAt()) {
+            rows.forEach(row -> {
+                BlogPost post = (BlogPost) row[0];
+                BlogPostContent content = (BlogPostContent) row[1];
+                post.setContent(content.getContent());
+                action.accept(writeBuffer.overlay(post));
+                // Detach each row once handled so the persistence context does not grow with the table
+                entityManager.detach(post);
+                entityManager.detach(content);
+            });
+        }
     }
 
     @Override
-    public List<BlogPost> getAllPosts() {
-        List<BlogPost> posts = blogPostRepository.findAll();
-        if (posts.isEmpty()) {
-            throw new BlogPostNotFoundException("No blog posts found");
+    public List<BlogPostSummary> getBlogPostSummariesByAuthor(String author) {
+        return blogPostRepository.findSummariesByAuthor(author);
+    }
+
+    @Override
+    public List<BlogPostSummary> getPublishedBlogPostSummaries() {
+        return blogPostRepository.findPublishedSummaries();
+    }
+
+    /**
+     * Pages through published posts, newest first, from the in-memory {@link PublishedFeed}.
+     */
+    @Override
+    public BlogPostPage getPublishedBlogPostPage(String cursor, int size) {
+        return publishedFeed.page(cursor, size);
+    }
+
+    @Override
+    public List<BlogPostSummary> getBlogPostSummariesInDateRange(LocalDateTime startDate, LocalDateTime endDate) {
+        if (startDate.isAfter(endDate)) {
+            throw new InvalidBlogPostException("Start date must not be after end date");
         }
-        return posts;
+        return blogPostRepository.findSummariesInDateRange(startDate, endDate);
     }
 
     @Override
-    public BlogPost getPostById(long id) {
-        return blogPostRepository.findById(id)
-                .orElseThrow(() -> new BlogPostNotFoundException("Blog post with ID " + id + " not found"));
+    public List<BlogPostSearchHit> searchBlogPosts(String query, int limit) {
+        return searchIndex.search(query, limit);
     }
 
+    /**
+     * Returns a post from the cache, or loads it on a miss. IDs the membership index knows
+     * to be unused are reported missing without a query.
+     */
     @Override
-    public BlogPost getPostByTitle(String title) {
-        return blogPostRepository.findByTitle(title)
-                .orElseThrow(() -> new BlogPostNotFoundException("Blog post with title '" + title + "' not found"));
+    public BlogPost getBlogPostById(long id) {
+        BlogPost blogPost = blogPostCache.getById(id, key -> membershipIndex.mightContainId(key)
+                ? loadOrCountFalsePositive(blogPostRepository.findById(key).orElse(null))
+                : null);
+        if (blogPost == null) {
+            throw new BlogPostNotFoundException("Blog post with ID " + id + " not found");
+        }
+        return writeBuffer.overlay(blogPost);
+    }
+
+    @Override
+    public BlogPost getBlogPostByTitle(String title) {
+        BlogPost blogPost = blogPostCache.getByTitle(title, key -> membershipIndex.mightContainTitle(key)
+                ? loadOrCountFalsePositive(blogPostRepository.findByTitle(key).orElse(null))
+                : null);
+        if (blogPost == null) {
+            throw new BlogPostNotFoundException("Blog post with title '" + title + "' not found");
+        }
+        return writeBuffer.overlay(blogPost);
     }
 
+    /**
+     * Replaces a post's content. With the write-behind buffer enabled, an unconditional update
+     * is only buffered and written with the post's next flush; a conditional update (one with
+     * an expected version) flushes any buffered content first and then goes to the database.
+     */
     @Override
-    public BlogPost updatePostContent(long id, String newContent) {
+    public BlogPost updateBlogPostContent(long id, String newContent, Long expectedVersion) {
         if (newContent == null || newContent.isEmpty()) {
             throw new InvalidBlogPostException("Content must not be null or empty");
         }
-        BlogPost blogPost = getPostById(id);
-        blogPost.setContent(newContent);
-        return blogPostRepository.save(blogPost);
+        if (writeBuffer.isEnabled() && expectedVersion == null) {
+            BlogPost buffered = writeBuffer.write(getBlogPostById(id), newContent);
+            searchIndex.index(buffered);
+            return buffered;
+        }
+        return updateColumn(id, expectedVersion, true, (version, base) -> {
+            int updated = blogPostRepository.incrementVersion(id, version);
+            if (updated > 0) {
+                contentStore.replace(id, newContent);
+                changeLog.record(id, ChangeType.UPDATED);
+            }
+            return updated;
+        }, post -> post.setContent(newContent));
     }
+
     @Override
-    public BlogPost updatePostTitle(long id, String newTitle) {
+    public BlogPost updateBlogPostTitle(long id, String newTitle, Long expectedVersion) {
         if (newTitle == null || newTitle.isEmpty()) {
             throw new InvalidBlogPostException("Title must not be null or empty");
         }
-        BlogPost blogPost = getPostById(id);
-        blogPost.setTitle(newTitle);
-        return blogPostRepository.save(blogPost);
+        try {
+            // The old title key is dropped by the cache itself, which re-checks titles on every hit
+            return updateColumn(id, expectedVersion, true,
+                    (version, base) -> recordIfUpdated(id, blogPostRepository.updateTitle(id, newTitle, version)),
+                    post -> post.setTitle(newTitle));
+        } catch (DataIntegrityViolationException e) {
+            if (isTitleConflict(e)) {
+                throw new DuplicateTitleException("A blog post with title '" + newTitle + "' already exists");
+            }
+            throw e;
+        }
     }
 
     @Override
-    public BlogPost updatePostAuthor(long id, String newAuthor) {
+    public BlogPost updateBlogPostAuthor(long id, String newAuthor, Long expectedVersion) {
         if (newAuthor == null || newAuthor.isEmpty()) {
             throw new InvalidBlogPostException("Author must not be null or empty");
         }
-        BlogPost blogPost = getPostById(id);
-        blogPost.setAuthor(newAuthor);
-        return blogPostRepository.save(blogPost);
+        return updateColumn(id, expectedVersion, false,
+                (version, base) -> recordIfUpdated(id, blogPostRepository.updateAuthor(id, newAuthor, version)),
+                post -> post.setAuthor(newAuthor));
+    }
+
+    @Override
+    public BlogPost updateBlogPostCoverImage(long id, String newCoverImageUrl, Long expectedVersion) {
+        return updateColumn(id, expectedVersion, false,
+                (version, base) -> recordIfUpdated(id, blogPostRepository.updateCoverImage(id, newCoverImageUrl, version)),
+                post -> post.setCoverImage(newCoverImageUrl));
+    }
+
+    @Override
+    public BlogPost togglePublishStatus(long id, Long expectedVersion) {
+        return updateColumn(id, expectedVersion, false, (version, base) -> {
+            int updated = blogPostRepository.togglePublished(id, version);
+            if (updated > 0) {
+                boolean published = base != null ? !base.isPublished() : blogPostRepository.isPublished(id);
+                changeLog.record(id, published ? ChangeType.PUBLISHED : ChangeType.UNPUBLISHED);
+            }
+            return updated;
+        }, post -> post.setPublished(!post.isPublished()));
     }
 
     @Override
-    public boolean deletePost(long id) {
-        if (blogPostRepository.existsById(id)) {
+    public boolean deleteBlogPost(long id) {
+        if (!membershipIndex.mightContainId(id)) {
+            throw new BlogPostNotFoundException("Blog post with ID " + id + " not found");
+        }
+        boolean deleted = Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+            if (!blogPostRepository.existsById(id)) {
+                return false;
+            }
             blogPostRepository.deleteById(id);
+            changeLog.record(id, ChangeType.DELETED);
+            return true;
+        }));
+        if (deleted) {
+            writeBuffer.discard(id);
+            blogPostCache.evict(id);
+            searchIndex.remove(id);
+            publishedFeed.remove(id);
             return true;
         } else {
             throw new BlogPostNotFoundException("Blog post with ID " + id + " not found");
         }
     }
+
+    /**
+     * Turns a zero row count from a conditional update into the right exception: the post
+     * either does not exist or no longer has the version the client expected.
+     */
+    private void requireUpdated(long id, Long expectedVersion, int updatedRows) {
+        if (updatedRows > 0) {
+            return;
+        }
+        if (expectedVersion != null && membershipIndex.mightContainId(id) && blogPostRepository.existsById(id)) {
+            throw new VersionConflictException("Blog post with ID " + id + " is no longer at version " + expectedVersion);
+        }
+        throw new BlogPostNotFoundException("Blog post with ID " + id + " not found");
+    }
+
+    private BlogPost loadOrCountFalsePositive(BlogPost blogPost) {
+        if (blogPost == null) {
+            membershipIndex.falsePositive();
+            return null;
+        }
+        return contentStore.load(blogPost);
+    }
+
+    /**
+     * Records an update in the change log if it changed a row. Must be called inside the
+     * update's transaction.
+     */
+    private int recordIfUpdated(long id, int updatedRows) {
+        if (updatedRows > 0) {
+            changeLog.record(id, ChangeType.UPDATED);
+        }
+        return updatedRows;
+    }
+
+    /**
+     * Applies a single-column update and propagates the result without reading the post back.
+     * <p>
+     * An unconditional update is made conditional on the cached copy's version, so a successful
+     * update is known to have been applied to exactly that copy; the result is then a patched
+     * copy of it with the next version, and only content updates touch the body. If the post is
+     * not cached at the version the update was made against, it is read back instead, and if the
+     * cached copy turns out to be stale, the update is retried unconditionally as requested.
+     *
+     * @param textChanged whether the title or content changes, so the post must be re-tokenized
+     * @param update runs inside the transaction and records the change; returns the rows updated
+     * @param patch applies the same change to a copy of the post as it was before the update
+     */
+    private BlogPost updateColumn(long id, Long expectedVersion, boolean textChanged,
+                                  ColumnUpdate update, Consumer<BlogPost> patch) {
+        writeBuffer.flush(id);
+        BlogPost cached = blogPostCache.getIfPresent(id);
+        long version = expectedVersion != null ? expectedVersion
+                : cached != null ? cached.getVersion() : BlogPostRepository.ANY_VERSION;
+        BlogPost base = cached != null && cached.getVersion() == version ? cached : null;
+        int updated = transactionTemplate.execute(status -> update.apply(version, base));
+        if (updated == 0 && expectedVersion == null && base != null) {
+            requireUpdated(id, null, transactionTemplate.execute(status ->
+                    update.apply(BlogPostRepository.ANY_VERSION, null)));
+            return reload(id, textChanged);
+        }
+        requireUpdated(id, expectedVersion, updated);
+        if (base == null) {
+            return reload(id, textChanged);
+        }
+        BlogPost patched = base.copy();
+        patch.accept(patched);
+        patched.setVersion(version + 1);
+        refresh(patched, textChanged);
+        return writeBuffer.overlay(patched);
+    }
+
+    /**
+     * Reads back a post after a single-column update that could not be applied to a cached
+     * copy, and stores the fresh copy in the cache and search index.
+     *
+     * @param textChanged whether the title or content changed, so the post must be re-tokenized
+     */
+    private BlogPost reload(long id, boolean textChanged) {
+        BlogPost blogPost = contentStore.load(blogPostRepository.findById(id)
+                .orElseThrow(() -> new BlogPostNotFoundException("Blog post with ID " + id + " not found")));
+        refresh(blogPost, textChanged);
+        return writeBuffer.overlay(blogPost);
+    }
+
+    /**
+     * Saves a post and its body in one transaction and refreshes its cache entry. Title
+     * uniqueness is enforced by the {@value #TITLE_UNIQUE_INDEX} index rather than a
+     * check-then-insert, so concurrent writers cannot both claim the same title.
+     */
+    private BlogPost saveAndCache(BlogPost blogPost) {
+        BlogPost saved;
+        try {
+            saved = transactionTemplate.execute(status -> {
+                BlogPost post = blogPostRepository.save(blogPost);
+                contentStore.insert(post);
+                changeLog.record(post.getId(), ChangeType.CREATED);
+                return post;
+            });
+        } catch (DataIntegrityViolationException e) {
+            if (isTitleConflict(e)) {
+                throw new DuplicateTitleException("A blog post with title '" + blogPost.getTitle() + "' already exists");
+            }
+            throw e;
+        }
+        refresh(saved);
+        return saved;
+    }
+
+    /**
+     * Propagates a committed write to the cache, search index and feed, and queues the post
+     * for its derived fields to be recomputed in the background.
+     */
+    private void refresh(BlogPost saved) {
+        refresh(saved, true);
+    }
+
+    /**
+     * @param textChanged whether the title or content may have changed; if not, only the search
+     *                    index's stored summary is updated
+     */
+    private void refresh(BlogPost saved, boolean textChanged) {
+        membershipIndex.add(saved.getId(), saved.getTitle());
+        blogPostCache.put(saved);
+        if (textChanged) {
+            searchIndex.index(saved);
+        } else {
+            searchIndex.refreshSummary(saved);
+        }
+        publishedFeed.update(BlogPostSummary.of(saved));
+        derivedContentPipeline.submit(saved.getId());
+    }
+
+    /**
+     * Applies the given updates in one transaction, writing changed posts and bodies as JDBC
+     * batches, then refreshes the cache and search index for every post that changed.
+     * Throws if the database rejects the transaction.
+     */
+    private void applyUpdates(List<Integer> indexes, List<BlogPostBatchUpdate> updates, BatchItemResult[] results) {
+        Map<Long, String> oldTitles = new HashMap<>();
+        List<BlogPost> changed = transactionTemplate.execute(status -> {
+            List<Long> ids = indexes.stream().map(i -> updates.get(i).id()).distinct().toList();
+            Map<Long, BlogPost> posts = blogPostRepository.findAllById(ids).stream()
+                    .collect(Collectors.toMap(BlogPost::getId, Function.identity()));
+            Map<Long, BlogPostContent> contents = contentStore.findAll(posts.keySet());
+            // Content is needed for validation on flush and for the cache, changed or not
+            posts.values().forEach(post -> post.setContent(contents.get(post.getId()).getContent()));
+            for (int i : indexes) {
+                BlogPostBatchUpdate update = updates.get(i);
+                BlogPost blogPost = posts.get(update.id());
+                if (blogPost == null) {
+                    results[i] = BatchItemResult.failed(i, update.id(), "Blog post with ID " + update.id() + " not found");
+                    continue;
+                }
+                oldTitles.putIfAbsent(blogPost.getId(), blogPost.getTitle());
+                update.applyTo(blogPost);
+                if (update.content() != null) {
+                    contentStore.update(contents.get(blogPost.getId()), update.content());
+                    // The post row itself may be unchanged, but its version must still move
+                    entityManager.lock(blogPost, LockModeType.OPTIMISTIC_FORCE_INCREMENT);
+                }
+                results[i] = BatchItemResult.succeeded(i, blogPost.getId());
+            }
+            indexes.stream()
+                    .map(i -> updates.get(i).id())
+                    .distinct()
+                    .filter(posts::containsKey)
+                    .forEach(id -> changeLog.record(id, ChangeType.UPDATED));
+            blogPostRepository.flush();
+            return List.copyOf(posts.values());
+        });
+        for (BlogPost blogPost : changed) {
+            refresh(blogPost);
+            String oldTitle = oldTitles.get(blogPost.getId());
+            if (oldTitle != null && !oldTitle.equals(blogPost.getTitle())) {
+                blogPostCache.evictTitle(oldTitle);
+            }
+        }
+    }
+
+    private String violationsOf(BlogPostBatchUpdate update) {
+        Set<ConstraintViolation<BlogPost>> violations = new HashSet<>();
+        if (update.title() != null) {
+            violations.addAll(validator.validateValue(BlogPost.class, "title", update.title()));
+        }
+        if (update.content() != null) {
+            violations.addAll(validator.validateValue(BlogPost.class, "content", update.content()));
+        }
+        if (update.author() != null) {
+            violations.addAll(validator.validateValue(BlogPost.class, "author", update.author()));
+        }
+        if (update.coverImage() != null) {
+            violations.addAll(validator.validateValue(BlogPost.class, "coverImage", update.coverImage()));
+        }
+        return violationsOf(violations);
+    }
+
+    private static String violationsOf(Set<ConstraintViolation<BlogPost>> violations) {
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining(" "));
+    }
+
+    private <T> List<List<T>> chunks(List<T> items) {
+        List<List<T>> chunks = new ArrayList<>();
+        for (int start = 0; start < items.size(); start += batchChunkSize) {
+            chunks.add(items.subList(start, Math.min(start + batchChunkSize, items.size())));
+        }
+        return chunks;
+    }
+
+    /**
+     * A conditional single-column update, run inside its transaction.
+     */
+    @FunctionalInterface
+    private interface ColumnUpdate {
+
+        /**
+         * @param version the version the post must have, or {@link BlogPostRepository#ANY_VERSION}
+         * @param base the post as it is at that version, or null if it is not known
+         * @return the number of rows updated
+         */
+        int apply(long version, BlogPost base);
+    }
+
+    private static boolean isTitleConflict(DataIntegrityViolationException e) {
+        String message = e.getMostSpecificCause().getMessage();
+        return message != null && message.toLowerCase(Locale.ROOT).contains(TITLE_UNIQUE_INDEX);
+    }
 }
@@ -1,44 +1,298 @@
 package io.github.kashish5567.blogpostmanager.service;
 
+import io.github.kashish5567.blogpostmanager.exception.DuplicateTitleException;
+import io.github.kashish5567.blogpostmanager.exception.InvalidBlogPostException;
+import io.github.kashish5567.blogpostmanager.exception.VersionConflictException;
+import io.github.kashish5567.blogpostmanager.model.BatchItemResult;
 import io.github.kashish5567.blogpostmanager.model.BlogPost;
+import io.github.kashish5567.blogpostmanager.model.BlogPostBatchUpdate;
+import io.github.kashish5567.blogpostmanager.model.BlogPostCursor;
+import io.github.kashish5567.blogpostmanager.model.BlogPostPage;
+import io.github.kashish5567.blogpostmanager.model.BlogPostSummary;
+import io.github.kashish5567.blogpostmanager.search.BlogPostSearchHit;
+import io.github.kashish5567.blogpostmanager.search.BlogPostSearchIndex;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
 
 /**
  * Service class for managing BlogPost operations.
  * This class handles business logic related to BlogPosts.
+ * <p>
+ * Posts are held in a {@link ConcurrentHashMap} keyed by ID, with secondary indexes on title,
+ * author, published flag and {@code (createdAt, id)}. Stored posts are never modified in place:
+ * every update swaps in a new copy inside {@link ConcurrentHashMap#computeIfPresent}, which only
+ * locks the bin holding that ID, so readers always observe a complete version of a post.
+ * Posts handed to callers are copies and may be changed freely.
+ * <p>
+ * Secondary indexes are updated after the primary map, so a reader can briefly find an index
+ * entry for a post that has just changed. Every read through an index therefore re-checks the
+ * current post before returning it.
+ * <p>
+ * The application serves from the database, so this bean is only created when
+ * {@code blogposts.in-memory.enabled} is true, for example to back the reactive API with
+ * {@code blogposts.reactive.delegate=inMemoryBlogPostService}.
  */
 @Service
+@ConditionalOnProperty(name = "blogposts.in-memory.enabled", havingValue = "true")
 public class InMemoryBlogPostService implements BlogPostService {
 
-    private final List<BlogPost> blogPosts;
+    private static final Comparator<BlogPost> CREATED_AT_ORDER =
+            Comparator.comparing(BlogPost::getCreatedAt).thenComparingLong(BlogPost::getId);
 
-    public InMemoryBlogPostService() {
-        this.blogPosts = new ArrayList<>();
-    }
+    private static final Comparator<BlogPostCursor> CURSOR_ORDER =
+            Comparator.comparing(BlogPostCursor::createdAt).thenComparingLong(BlogPostCursor::id);
+
+    private final AtomicLong idGenerator = new AtomicLong();
+    private final ConcurrentMap<Long, BlogPost> postsById = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Long> idsByTitle = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Set<Long>> idsByAuthor = new ConcurrentHashMap<>();
+    private final NavigableSet<BlogPostCursor> byCreatedAt = new ConcurrentSkipListSet<>(CURSOR_ORDER);
+    private final NavigableSet<BlogPostCursor> publishedByCreatedAt = new ConcurrentSkipListSet<>(CURSOR_ORDER);
+    private final BlogPostSearchIndex searchIndex = new BlogPostSearchIndex();
 
     /**
      * Creates and stores a new blog post.
      *
      * @param blogPost The blog post to be created
-     * @return The newly created blog post
+     * @return The newly created blog post, with its generated ID
+     * @throws DuplicateTitleException if another post already has the same title
      */
     @Override
     public BlogPost createBlogPost(BlogPost blogPost) {
-        blogPosts.add(blogPost);
-        return blogPost;
+        BlogPost stored = copyOf(blogPost);
+        stored.setId(idGenerator.incrementAndGet());
+        stored.setVersion(0);
+        if (idsByTitle.putIfAbsent(stored.getTitle(), stored.getId()) != null) {
+            throw new DuplicateTitleException("A blog post with title '" + stored.getTitle() + "' already exists");
+        }
+        postsById.put(stored.getId(), stored);
+        addToAuthorIndex(stored.getAuthor(), stored.getId());
+        byCreatedAt.add(cursorOf(stored));
+        if (stored.isPublished()) {
+            publishedByCreatedAt.add(cursorOf(stored));
+        }
+        searchIndex.index(stored);
+        return copyOf(stored);
+    }
+
+    /**
+     * Creates several blog posts, reporting the outcome of each one.
+     *
+     * @param blogPosts The blog posts to be created
+     * @return One result per blog post, in request order
+     */
+    @Override
+    public List<BatchItemResult> createBlogPosts(List<BlogPost> blogPosts) {
+        List<BatchItemResult> results = new ArrayList<>(blogPosts.size());
+        for (int i = 0; i < blogPosts.size(); i++) {
+            try {
+                results.add(BatchItemResult.succeeded(i, createBlogPost(blogPosts.get(i)).getId()));
+            } catch (DuplicateTitleException e) {
+                results.add(BatchItemResult.failed(i, null, e.getMessage()));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Applies several partial updates, reporting the outcome of each one.
+     *
+     * @param updates The updates to apply
+     * @return One result per update, in request order
+     */
+    @Override
+    public List<BatchItemResult> updateBlogPosts(List<BlogPostBatchUpdate> updates) {
+        List<BatchItemResult> results = new ArrayList<>(updates.size());
+        for (int i = 0; i < updates.size(); i++) {
+            BlogPostBatchUpdate update = updates.get(i);
+            try {
+                BlogPost post = update(update.id(), null, current -> {
+                    if (update.title() != null && !update.title().equals(current.getTitle())) {
+                        reserveTitle(update.title(), current);
+                    }
+                    if (update.author() != null && !update.author().equals(current.getAuthor())) {
+                        removeFromAuthorIndex(current.getAuthor(), current.getId());
+                        addToAuthorIndex(update.author(), current.getId());
+                    }
+                    update.applyTo(current);
+                    return current;
+                });
+                results.add(post != null
+                        ? BatchItemResult.succeeded(i, post.getId())
+                        : BatchItemResult.failed(i, update.id(), "Blog post with ID " + update.id() + " not found"));
+            } catch (DuplicateTitleException e) {
+                results.add(BatchItemResult.failed(i, update.id(), e.getMessage()));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Deletes several blog posts, reporting the outcome of each one.
+     *
+     * @param ids The IDs of the blog posts
+     * @return One result per ID, in request order
+     */
+    @Override
+    public List<BatchItemResult> deleteBlogPosts(List<Long> ids) {
+        List<BatchItemResult> results = new ArrayList<>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            long id = ids.get(i);
+            results.add(deleteBlogPost(id)
+                    ? BatchItemResult.succeeded(i, id)
+                    : BatchItemResult.failed(i, id, "Blog post with ID " + id + " not found"));
+        }
+        return results;
+    }
+
+    /**
+     * Retrieves one page of blog posts in {@code (createdAt, id)} order.
+     *
+     * @param cursor The continuation token from the previous page, or null for the first page
+     * @param size The maximum number of posts to return
+     * @return The requested page
+     */
+    @Override
+    public BlogPostPage getBlogPostPage(String cursor, int size) {
+        NavigableSet<BlogPostCursor> remaining = cursor == null || cursor.isEmpty()
+                ? byCreatedAt
+                : byCreatedAt.tailSet(BlogPostCursor.decode(cursor), false);
+        List<BlogPostSummary> posts = new ArrayList<>(size + 1);
+        for (BlogPostCursor position : remaining) {
+            BlogPost post = postsById.get(position.id());
+            if (post != null) {
+                posts.add(BlogPostSummary.of(post));
+                if (posts.size() > size) {
+                    break;
+                }
+            }
+        }
+        if (posts.size() <= size) {
+            return new BlogPostPage(posts, null);
+        }
+        List<BlogPostSummary> page = posts.subList(0, size);
+        return new BlogPostPage(page, BlogPostCursor.after(page.get(size - 1)).encode());
+    }
+
+    /**
+     * Passes every blog post, in {@code (createdAt, id)} order, to the given action.
+     *
+     * @param action The action to perform for each blog post
+     */
+    @Override
+    public void forEachBlogPost(Consumer<BlogPost> action) {
+        for (BlogPostCursor position : byCreatedAt) {
+            BlogPost post = postsById.get(position.id());
+            if (post != null) {
+                action.accept(copyOf(post));
+            }
+        }
+    }
+
+    /**
+     * Retrieves summaries of all blog posts by an author, newest first.
+     *
+     * @param author The author's name
+     * @return List of matching blog post summaries
+     */
+    @Override
+    public List<BlogPostSummary> getBlogPostSummariesByAuthor(String author) {
+        return idsByAuthor.getOrDefault(author, Set.of()).stream()
+                .map(postsById::get)
+                .filter(post -> post != null && post.getAuthor().equals(author))
+                .sorted(CREATED_AT_ORDER.reversed())
+                .map(BlogPostSummary::of)
+                .toList();
+    }
+
+    /**
+     * Retrieves summaries of all published blog posts, newest first.
+     *
+     * @return List of published blog post summaries
+     */
+    @Override
+    public List<BlogPostSummary> getPublishedBlogPostSummaries() {
+        return publishedByCreatedAt.descendingSet().stream()
+                .map(position -> postsById.get(position.id()))
+                .filter(post -> post != null && post.isPublished())
+                .map(BlogPostSummary::of)
+                .toList();
+    }
+
+    /**
+     * Retrieves one page of published blog post summaries, newest first.
+     *
+     * @param cursor The continuation token from the previous page, or null for the first page
+     * @param size The maximum number of posts to return
+     * @return The requested page
+     */
+    @Override
+    public BlogPostPage getPublishedBlogPostPage(String cursor, int size) {
+        NavigableSet<BlogPostCursor> remaining = cursor == null || cursor.isEmpty()
+                ? publishedByCreatedAt.descendingSet()
+                : publishedByCreatedAt.headSet(BlogPostCursor.decode(cursor), false).descendingSet();
+        List<BlogPostSummary> posts = new ArrayList<>(size + 1);
+        for (BlogPostCursor position : remaining) {
+            BlogPost post = postsById.get(position.id());
+            if (post != null && post.isPublished()) {
+                posts.add(BlogPostSummary.of(post));
+                if (posts.size() > size) {
+                    break;
+                }
+            }
+        }
+        if (posts.size() <= size) {
+            return new BlogPostPage(posts, null);
+        }
+        List<BlogPostSummary> page = posts.subList(0, size);
+        return new BlogPostPage(page, BlogPostCursor.after(page.get(size - 1)).encode());
+    }
+
+    /**
+     * Retrieves summaries of blog posts created within a date range, oldest first.
+     *
+     * @param startDate Start of the range (inclusive)
+     * @param endDate End of the range (inclusive)
+     * @return List of matching blog post summaries
+     * @throws InvalidBlogPostException if the start date is after the end date
+     */
+    @Override
+    public List<BlogPostSummary> getBlogPostSummariesInDateRange(LocalDateTime startDate, LocalDateTime endDate) {
+        if (startDate.isAfter(endDate)) {
+            throw new InvalidBlogPostException("Start date must not be after end date");
+        }
+        return byCreatedAt.subSet(new BlogPostCursor(startDate, Long.MIN_VALUE), true,
+                        new BlogPostCursor(endDate, Long.MAX_VALUE), true).stream()
+                .map(position -> postsById.get(position.id()))
+                .filter(Objects::nonNull)
+                .map(BlogPostSummary::of)
+                .toList();
     }
 
     /**
-     * Retrieves all blog posts.
+     * Searches blog post titles and content.
      *
-     * @return List of all blog posts
+     * @param query The search terms
+     * @param limit The maximum number of hits
+     * @return Hits ordered by descending relevance
      */
     @Override
-    public List<BlogPost> getAllBlogPosts() {
-        return blogPosts;
+    public List<BlogPostSearchHit> searchBlogPosts(String query, int limit) {
+        return searchIndex.search(query, limit);
     }
 
     /**
@@ -49,10 +303,21 @@ public class InMemoryBlogPostService implements BlogPostService {
      */
     @Override
     public BlogPost getBlogPostById(long id) {
-        return blogPosts.stream()
-                .filter(post -> post.getId() == id)
-                .findFirst()
-                .orElse(null);
+        BlogPost post = postsById.get(id);
+        return post == null ? null : copyOf(post);
+    }
+
+    /**
+     * Finds a blog post by its title.
+     *
+     * @param title The title of the blog post
+     * @return The found blog post or null
+     */
+    @Override
+    public BlogPost getBlogPostByTitle(String title) {
+        Long id = idsByTitle.get(title);
+        BlogPost post = id == null ? null : postsById.get(id);
+        return post != null && post.getTitle().equals(title) ? copyOf(post) : null;
     }
 
     /**
@@ -60,15 +325,20 @@ public class InMemoryBlogPostService implements BlogPostService {
      *
      * @param id The ID of the blog post
      * @param newTitle The new title
+     * @param expectedVersion The version the post must currently have, or null for any
      * @return The updated blog post or null
+     * @throws DuplicateTitleException if another post already has the new title
+     * @throws VersionConflictException if the post is not at the expected version
      */
     @Override
-    public BlogPost updateBlogPostTitle(long id, String newTitle) {
-        BlogPost post = getBlogPostById(id);
-        if (post != null) {
+    public BlogPost updateBlogPostTitle(long id, String newTitle, Long expectedVersion) {
+        return update(id, expectedVersion, post -> {
+            if (!post.getTitle().equals(newTitle)) {
+                reserveTitle(newTitle, post);
+            }
             post.setTitle(newTitle);
-        }
-        return post;
+            return post;
+        });
     }
 
     /**
@@ -76,15 +346,15 @@ public class InMemoryBlogPostService implements BlogPostService {
      *
      * @param id The ID of the blog post
      * @param newContent The new content
+     * @param expectedVersion The version the post must currently have, or null for any
      * @return The updated blog post or null
      */
     @Override
-    public BlogPost updateBlogPostContent(long id, String newContent) {
-        BlogPost post = getBlogPostById(id);
-        if (post != null) {
+    public BlogPost updateBlogPostContent(long id, String newContent, Long expectedVersion) {
+        return update(id, expectedVersion, post -> {
             post.setContent(newContent);
-        }
-        return post;
+            return post;
+        });
     }
 
     /**
@@ -92,15 +362,55 @@ public class InMemoryBlogPostService implements BlogPostService {
      *
      * @param id The ID of the blog post
      * @param newAuthor The new author name
+     * @param expectedVersion The version the post must currently have, or null for any
      * @return The updated blog post or null
      */
     @Override
-    public BlogPost updateBlogPostAuthor(long id, String newAuthor) {
-        BlogPost post = getBlogPostById(id);
-        if (post != null) {
+    public BlogPost updateBlogPostAuthor(long id, String newAuthor, Long expectedVersion) {
+        return update(id, expectedVersion, post -> {
+            if (!post.getAuthor().equals(newAuthor)) {
+                removeFromAuthorIndex(post.getAuthor(), id);
+                addToAuthorIndex(newAuthor, id);
+            }
             post.setAuthor(newAuthor);
-        }
-        return post;
+            return post;
+        });
+    }
+
+    /**
+     * Updates the cover image of a blog post.
+     *
+     * @param id The ID of the blog post
+     * @param newCoverImageUrl The new cover image URL
+     * @param expectedVersion The version the post must currently have, or null for any
+     * @return The updated blog post or null
+     */
+    @Override
+    public BlogPost updateBlogPostCoverImage(long id, String newCoverImageUrl, Long expectedVersion) {
+        return update(id, expectedVersion, post -> {
+            post.setCoverImage(newCoverImageUrl);
+            return post;
+        });
+    }
+
+    /**
+     * Flips the published flag of a blog post.
+     *
+     * @param id The ID of the blog post
+     * @param expectedVersion The version the post must currently have, or null for any
+     * @return The updated blog post or null
+     */
+    @Override
+    public BlogPost togglePublishStatus(long id, Long expectedVersion) {
+        return update(id, expectedVersion, post -> {
+            post.setPublished(!post.isPublished());
+            if (post.isPublished()) {
+                publishedByCreatedAt.add(cursorOf(post));
+            } else {
+                publishedByCreatedAt.remove(cursorOf(post));
+            }
+            return post;
+        });
     }
 
     /**
@@ -111,11 +421,76 @@ public class InMemoryBlogPostService implements BlogPostService {
      */
     @Override
     public boolean deleteBlogPost(long id) {
-        BlogPost post = getBlogPostById(id);
-        if (post != null) {
-            blogPosts.remove(post);
-            return true;
+        BlogPost removed = postsById.remove(id);
+        if (removed == null) {
+            return false;
+        }
+        idsByTitle.remove(removed.getTitle(), id);
+        removeFromAuthorIndex(removed.getAuthor(), id);
+        byCreatedAt.remove(cursorOf(removed));
+        publishedByCreatedAt.remove(cursorOf(removed));
+        searchIndex.remove(id);
+        return true;
+    }
+
+    /**
+     * Atomically replaces a post with a modified copy. The change runs while the map bin for
+     * this ID is locked, so concurrent updates to the same post are serialized and no update
+     * is lost, while updates to other posts proceed in parallel.
+     */
+    private BlogPost update(long id, Long expectedVersion, UnaryOperator<BlogPost> change) {
+        BlogPost updated = postsById.computeIfPresent(id, (key, current) -> {
+            if (expectedVersion != null && current.getVersion() != expectedVersion) {
+                throw new VersionConflictException("Blog post with ID " + id + " is no longer at version " + expectedVersion);
+            }
+            BlogPost next = change.apply(copyOf(current));
+            next.setVersion(current.getVersion() + 1);
+            return next;
+        });
+        if (updated == null) {
+            return null;
         }
-        return false;
+        searchIndex.index(updated);
+        return copyOf(updated);
+    }
+
+    /**
+     * Claims a new title for a post and releases its old one.
+     *
+     * @throws DuplicateTitleException if another post already has the new title
+     */
+    private void reserveTitle(String newTitle, BlogPost post) {
+        Long owner = idsByTitle.putIfAbsent(newTitle, post.getId());
+        if (owner != null && owner != post.getId()) {
+            throw new DuplicateTitleException("A blog post with title '" + newTitle + "' already exists");
+        }
+        idsByTitle.remove(post.getTitle(), post.getId());
+    }
+
+    private void addToAuthorIndex(String author, long id) {
+        idsByAuthor.compute(author, (key, ids) -> {
+            Set<Long> result = ids == null ? ConcurrentHashMap.newKeySet() : ids;
+            result.add(id);
+            return result;
+        });
+    }
+
+    private void removeFromAuthorIndex(String author, long id) {
+        idsByAuthor.computeIfPresent(author, (key, ids) -> {
+            ids.remove(id);
+            return ids.isEmpty() ? null : ids;
+        });
+    }
+
+    private static BlogPostCursor cursorOf(BlogPost post) {
+        return new BlogPostCursor(post.getCreatedAt(), post.getId());
+    }
+
+    private static BlogPost copyOf(BlogPost source) {
+        BlogPost copy = new BlogPost(source.getTitle(), source.getContent(), source.getAuthor(),
+                source.getCoverImage(), source.isPublished(), source.getCreatedAt());
+        copy.setId(source.getId());
+        copy.setVersion(source.getVersion());
+        return copy;
     }
 }
@@ -0,0 +1,40 @@
+package io.github.kashish5567.blogpostmanager.service;
+
+import io.github.kashish5567.blogpostmanager.model.BlogPost;
+import io.github.kashish5567.blogpostmanager.model.BlogPostSummary;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterpart of {@link BlogPostService}.
+ * <p>
+ * Single-post operations complete empty rather than with null when a post does not exist.
+ * List operations are streamed: implementations fetch further rows only as subscribers
+ * request them, so a slow consumer never forces a whole result set into memory.
+ */
+public interface ReactiveBlogPostService {
+
+    Mono<BlogPost> createBlogPost(BlogPost blogPost);
+
+    Flux<BlogPostSummary> getAllBlogPostSummaries();
+
+    Flux<BlogPostSummary> getBlogPostSummariesByAuthor(String author);
+
+    Flux<BlogPostSummary> getPublishedBlogPostSummaries();
+
+    Mono<BlogPost> getBlogPostById(long id);
+
+    Mono<BlogPost> getBlogPostByTitle(String title);
+
+    Mono<BlogPost> updateBlogPostContent(long id, String newContent);
+
+    Mono<BlogPost> updateBlogPostTitle(long id, String newTitle);
+
+    Mono<BlogPost> updateBlogPostAuthor(long id, String newAuthor);
+
+    Mono<BlogPost> updateBlogPostCoverImage(long id, String newCoverImageUrl);
+
+    Mono<BlogPost> togglePublishStatus(long id);
+
+    Mono<Boolean> deleteBlogPost(long id);
+}
@@ -0,0 +1,172 @@
+package io.github.kashish5567.blogpostmanager.transfer;
+
+import io.github.kashish5567.blogpostmanager.model.BlogPost;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streaming RFC 4180 CSV codec for blog posts.
+ * <p>
+ * Columns are {@value #HEADER}. Fields containing commas, quotes or line breaks are quoted,
+ * so post content can span several physical lines. Only {@code title}, {@code content},
+ * {@code author}, {@code published} and {@code createdAt} are required when importing;
+ * {@code id} and {@code version} are ignored because imported posts get new ones.
+ */
+final class BlogPostCsv {
+
+    static final String HEADER = "id,title,content,author,coverImage,published,createdAt,version";
+
+    private static final String[] COLUMNS = HEADER.split(",");
+
+    private BlogPostCsv() {
+    }
+
+    static void writeHeader(Writer out) throws IOException {
+        out.write(HEADER);
+        out.write("\r\n");
+    }
+
+    static void write(Writer out, BlogPost post) throws IOException {
+        writeField(out, Long.toString(post.getId()));
+        out.write(',');
+        writeField(out, post.getTitle());
+        out.write(',');
+        writeField(out, post.getContent());
+        out.write(',');
+        writeField(out, post.getAuthor());
+        out.write(',');
+        writeField(out, post.getCoverImage());
+        out.write(',');
+        writeField(out, Boolean.toString(post.isPublished()));
+        out.write(',');
+        writeField(out, post.getCreatedAt().toString());
+        out.write(',');
+        writeField(out, Long.toString(post.getVersion()));
+        out.write("\r\n");
+    }
+
+    private static void writeField(Writer out, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        if (!quote) {
+            out.write(value);
+            return;
+        }
+        out.write('"');
+        out.write(value.replace("\"", "\"\""));
+        out.write('"');
+    }
+
+    /**
+     * Reads posts one record at a time, so memory use does not depend on the input size.
+     */
+    static final class PostReader {
+
+        private final Reader in;
+        private final int[] columnIndexes = new int[COLUMNS.length];
+        private int pushedBack = -2;
+
+        PostReader(Reader in) throws IOException {
+            this.in = in;
+            List<String> header = readRecord();
+            for (int i = 0; i < COLUMNS.length; i++) {
+                columnIndexes[i] = header == null ? -1 : header.indexOf(COLUMNS[i]);
+            }
+        }
+
+        /**
+         * @return the next post, or null at the end of the input
+         * @throws IllegalArgumentException if a record cannot be turned into a post
+         */
+        BlogPost next() throws IOException {
+            List<String> record = readRecord();
+            while (record != null && record.size() == 1 && record.get(0).isEmpty()) {
+                record = readRecord();
+            }
+            if (record == null) {
+                return null;
+            }
+            String published = field(record, 5);
+            String createdAt = field(record, 6);
+            try {
+                return new BlogPost(field(record, 1), field(record, 2), field(record, 3), field(record, 4),
+                        Boolean.parseBoolean(published),
+                        createdAt == null ? LocalDateTime.now() : LocalDateTime.parse(createdAt));
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("Invalid CSV record: " + e.getMessage(), e);
+            }
+        }
+
+        private String field(List<String> record, int column) {
+            int index = columnIndexes[column];
+            if (index < 0 || index >= record.size()) {
+                return null;
+            }
+            String value = record.get(index);
+            return value.isEmpty() ? null : value;
+        }
+
+        private List<String> readRecord() throws IOException {
+            int c = read();
+            if (c == -1) {
+                return null;
+            }
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            while (true) {
+                if (quoted) {
+                    if (c == -1) {
+                        throw new IllegalArgumentException("Unterminated quoted CSV field");
+                    }
+                    if (c == '"') {
+                        int next = read();
+                        if (next == '"') {
+                            field.append('"');
+                        } else {
+                            quoted = false;
+                            c = next;
+                            continue;
+                        }
+                    } else {
+                        field.append((char) c);
+                    }
+                } else if (c == '"' && field.isEmpty()) {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '\r' || c == '\n' || c == -1) {
+                    if (c == '\r') {
+                        int next = read();
+                        if (next != '\n') {
+                            pushedBack = next;
+                        }
+                    }
+                    fields.add(field.toString());
+                    return fields;
+                } else {
+                    field.append((char) c);
+                }
+                c = read();
+            }
+        }
+
+        private int read() throws IOException {
+            if (pushedBack != -2) {
+                int c = pushedBack;
+                pushedBack = -2;
+                return c;
+            }
+            return in.read();
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package io.github.kashish5567.blogpostmanager.transfer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Runs a bulk export or import from the command line instead of starting the web server:
+ * <pre>
+ * java -jar blog.jar --export=posts.ndjson
+ * java -jar blog.jar --import=posts.csv --format=CSV
+ * </pre>
+ * The format defaults to NDJSON. The application exits once the transfer has finished,
+ * with status 1 if it failed or any post could not be imported.
+ */
+@Component
+public class BlogPostTransferRunner implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(BlogPostTransferRunner.class);
+
+    private static final String EXPORT = "export";
+    private static final String IMPORT = "import";
+    private static final String FORMAT = "format";
+
+    private final BlogPostTransferService transferService;
+    private final ConfigurableApplicationContext context;
+
+    public BlogPostTransferRunner(BlogPostTransferService transferService, ConfigurableApplicationContext context) {
+        this.transferService = transferService;
+        this.context = context;
+    }
+
+    /**
+     * Tells whether the command line asks for a transfer, so the application can skip the web server.
+     *
+     * @param args the raw command-line arguments
+     * @return true if an export or import was requested
+     */
+    public static boolean isTransferCommand(String[] args) {
+        return List.of(args).stream()
+                .anyMatch(arg -> arg.startsWith("--" + EXPORT + "=") || arg.startsWith("--" + IMPORT + "="));
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        if (!args.containsOption(EXPORT) && !args.containsOption(IMPORT)) {
+            return;
+        }
+        int status = transfer(args);
+        System.exit(SpringApplication.exit(context, () -> status));
+    }
+
+    /**
+     * Runs the requested export or import.
+     *
+     * @param args the parsed command-line arguments, with an export or import option
+     * @return the exit status: 0 on success, 1 if the transfer failed or any post could not be imported
+     */
+    int transfer(ApplicationArguments args) {
+        try {
+            // Parsed inside the try, so an unknown format is logged and exits with 1 like any other failure
+            TransferFormat format = args.containsOption(FORMAT)
+                    ? TransferFormat.valueOf(args.getOptionValues(FORMAT).get(0).toUpperCase(Locale.ROOT))
+                    : TransferFormat.NDJSON;
+            return args.containsOption(EXPORT)
+                    ? export(Path.of(args.getOptionValues(EXPORT).get(0)), format)
+                    : importFrom(Path.of(args.getOptionValues(IMPORT).get(0)), format);
+        } catch (Exception e) {
+            log.error("Transfer failed", e);
+            return 1;
+        }
+    }
+
+    private int export(Path file, TransferFormat format) throws Exception {
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file))) {
+            long count = transferService.exportPosts(out, format);
+            log.info("Exported {} blog posts to {}", count, file);
+        }
+        return 0;
+    }
+
+    private int importFrom(Path file, TransferFormat format) throws Exception {
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(file))) {
+            ImportReport report = transferService.importPosts(in, format);
+            log.info("Imported {} from {}: {} read, {} created, {} skipped, {} failed",
+                    format, file, report.read(), report.created(), report.skipped(), report.failed());
+            report.errors().forEach(error -> log.warn("Not imported: {}", error));
+            return report.failed() == 0 ? 0 : 1;
+        }
+    }
+}
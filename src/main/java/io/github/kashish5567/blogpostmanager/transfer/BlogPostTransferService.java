@@ -0,0 +1,245 @@
+package io.github.kashish5567.blogpostmanager.transfer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.github.kashish5567.blogpostmanager.model.BatchItemResult;
+import io.github.kashish5567.blogpostmanager.membership.BlogPostMembershipIndex;
+import io.github.kashish5567.blogpostmanager.model.BlogPost;
+import io.github.kashish5567.blogpostmanager.repository.BlogPostRepository;
+import io.github.kashish5567.blogpostmanager.service.BlogPostService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Bulk export and import of blog posts as NDJSON or CSV, for backups and migrations.
+ * <p>
+ * Both directions stream. Export walks the table with the service's cursor-backed
+ * {@link BlogPostService#forEachBlogPost}, and import reads one post at a time and writes them
+ * in chunks of {@code blogposts.batch.chunk-size} through the batch insert path. Memory use is
+ * therefore bounded by one chunk, whatever the size of the data set.
+ * <p>
+ * Imports are idempotent: posts whose title already exists are skipped rather than inserted
+ * again, so an interrupted import can simply be re-run. The title's unique index still decides
+ * any race with concurrent writers.
+ */
+@Service
+public class BlogPostTransferService {
+
+    private static final Logger log = LoggerFactory.getLogger(BlogPostTransferService.class);
+
+    private static final int MAX_REPORTED_ERRORS = 100;
+    private static final long PROGRESS_INTERVAL = 10_000;
+
+    private final BlogPostService blogPostService;
+    private final BlogPostRepository blogPostRepository;
+    private final BlogPostMembershipIndex membershipIndex;
+    private final ObjectWriter postWriter;
+    private final ObjectReader postReader;
+    private final int chunkSize;
+    private final Counter exported;
+    private final Counter imported;
+
+    public BlogPostTransferService(@Qualifier("databaseBlogPostService") BlogPostService blogPostService,
+                                   BlogPostRepository blogPostRepository, BlogPostMembershipIndex membershipIndex,
+                                   ObjectMapper objectMapper,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${blogposts.batch.chunk-size:50}") int chunkSize) {
+        this.blogPostService = blogPostService;
+        this.blogPostRepository = blogPostRepository;
+        this.membershipIndex = membershipIndex;
+        this.postWriter = objectMapper.writerFor(BlogPost.class);
+        this.postReader = objectMapper.readerFor(BlogPost.class);
+        this.chunkSize = chunkSize;
+        this.exported = Counter.builder("blogposts.transfer.exported")
+                .description("Blog posts written by bulk exports")
+                .register(meterRegistry);
+        this.imported = Counter.builder("blogposts.transfer.imported")
+                .description("Blog posts inserted by bulk imports")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Writes every blog post to the given stream, oldest first.
+     *
+     * @param out the destination; flushed but not closed
+     * @param format the file format
+     * @return the number of posts written
+     */
+    public long exportPosts(OutputStream out, TransferFormat format) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        if (format == TransferFormat.CSV) {
+            BlogPostCsv.writeHeader(writer);
+        }
+        long[] count = new long[1];
+        try {
+            blogPostService.forEachBlogPost(post -> {
+                try {
+                    if (format == TransferFormat.CSV) {
+                        BlogPostCsv.write(writer, post);
+                    } else {
+                        writer.write(postWriter.writeValueAsString(post));
+                        writer.write('\n');
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                if (++count[0] % PROGRESS_INTERVAL == 0) {
+                    log.info("Exported {} blog posts", count[0]);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.flush();
+        exported.increment(count[0]);
+        log.info("Export finished: {} blog posts", count[0]);
+        return count[0];
+    }
+
+    /**
+     * Reads blog posts from the given stream and inserts the ones whose title is not yet taken.
+     * Malformed records are reported as failures and do not stop the import.
+     *
+     * @param in the source; not closed
+     * @param format the file format
+     * @return what happened to the posts read
+     */
+    public ImportReport importPosts(InputStream in, TransferFormat format) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        ImportProgress progress = new ImportProgress();
+        List<ImportItem> chunk = new ArrayList<>(chunkSize);
+        if (format == TransferFormat.CSV) {
+            BlogPostCsv.PostReader csv = new BlogPostCsv.PostReader(reader);
+            while (true) {
+                BlogPost post;
+                try {
+                    post = csv.next();
+                } catch (IllegalArgumentException e) {
+                    progress.failed(progress.read++, e.getMessage());
+                    continue;
+                }
+                if (post == null) {
+                    break;
+                }
+                addToChunk(chunk, post, progress);
+            }
+        } else {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    addToChunk(chunk, postReader.readValue(line), progress);
+                } catch (JsonProcessingException e) {
+                    progress.failed(progress.read++, "Invalid JSON: " + e.getOriginalMessage());
+                }
+            }
+        }
+        insert(chunk, progress);
+        log.info("Import finished: {} read, {} created, {} skipped, {} failed",
+                progress.read, progress.created, progress.skipped, progress.failed);
+        return progress.toReport();
+    }
+
+    private void addToChunk(List<ImportItem> chunk, BlogPost post, ImportProgress progress) {
+        chunk.add(new ImportItem(progress.read++, post));
+        if (chunk.size() == chunkSize) {
+            insert(chunk, progress);
+        }
+    }
+
+    /**
+     * Inserts one chunk, skipping posts whose titles are already taken, then empties it. Only
+     * titles the membership index cannot rule out are checked against the database.
+     */
+    private void insert(List<ImportItem> chunk, ImportProgress progress) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        List<String> candidates = chunk.stream()
+                .map(item -> item.post().getTitle())
+                .filter(Objects::nonNull)
+                .filter(membershipIndex::mightContainTitle)
+                .toList();
+        Set<String> existing = candidates.isEmpty()
+                ? Set.of()
+                : new HashSet<>(blogPostRepository.findExistingTitles(candidates));
+        List<ImportItem> fresh = chunk.stream()
+                .filter(item -> !existing.contains(item.post().getTitle()))
+                .toList();
+        progress.skipped += chunk.size() - fresh.size();
+        if (!fresh.isEmpty()) {
+            List<BatchItemResult> results = blogPostService.createBlogPosts(
+                    fresh.stream().map(ImportItem::post).toList());
+            long created = 0;
+            for (BatchItemResult result : results) {
+                if (result.success()) {
+                    created++;
+                } else {
+                    progress.failed(fresh.get(result.index()).index(), result.error());
+                }
+            }
+            progress.created += created;
+            imported.increment(created);
+        }
+        chunk.clear();
+        if (progress.read - progress.lastLogged >= PROGRESS_INTERVAL) {
+            progress.lastLogged = progress.read;
+            log.info("Imported {} of {} blog posts read", progress.created, progress.read);
+        }
+    }
+
+    /**
+     * A post read from the input, with its zero-based position for error messages.
+     */
+    private record ImportItem(long index, BlogPost post) {
+    }
+
+    /**
+     * Running totals of one import.
+     */
+    private static final class ImportProgress {
+
+        private long read;
+        private long created;
+        private long skipped;
+        private long failed;
+        private long lastLogged;
+        private final List<String> errors = new ArrayList<>();
+
+        void failed(long index, String error) {
+            failed++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add("#" + index + ": " + error);
+            }
+        }
+
+        ImportReport toReport() {
+            return new ImportReport(read, created, skipped, failed, List.copyOf(errors));
+        }
+    }
+}
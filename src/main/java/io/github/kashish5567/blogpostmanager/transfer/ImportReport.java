@@ -0,0 +1,15 @@
+package io.github.kashish5567.blogpostmanager.transfer;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk import.
+ *
+ * @param read    the number of posts read from the input
+ * @param created the number of posts inserted
+ * @param skipped the number of posts skipped because a post with the same title already exists
+ * @param failed  the number of posts rejected as invalid or by the database
+ * @param errors  the first failures, each prefixed with the post's position in the input
+ */
+public record ImportReport(long read, long created, long skipped, long failed, List<String> errors) {
+}
@@ -0,0 +1,29 @@
+package io.github.kashish5567.blogpostmanager.transfer;
+
+import org.springframework.http.MediaType;
+
+/**
+ * File formats for bulk export and import.
+ */
+public enum TransferFormat {
+
+    /**
+     * One JSON blog post per line.
+     */
+    NDJSON(MediaType.APPLICATION_NDJSON),
+
+    /**
+     * RFC 4180 CSV with a header row; see {@link BlogPostCsv} for the columns.
+     */
+    CSV(new MediaType("text", "csv"));
+
+    private final MediaType mediaType;
+
+    TransferFormat(MediaType mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public MediaType mediaType() {
+        return mediaType;
+    }
+}
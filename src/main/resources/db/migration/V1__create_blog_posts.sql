@@ -0,0 +1,12 @@
+-- Initial schema. Uses IF NOT EXISTS so databases created before Flyway was
+-- introduced (baselined at version 0) pass through this step unchanged.
+CREATE TABLE IF NOT EXISTS blog_posts (
+    id          BIGINT       NOT NULL AUTO_INCREMENT,
+    title       VARCHAR(100) NOT NULL,
+    content     TEXT         NOT NULL,
+    author      VARCHAR(50)  NOT NULL,
+    cover_image VARCHAR(255),
+    published   BOOLEAN      NOT NULL DEFAULT FALSE,
+    created_at  TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (id)
+);
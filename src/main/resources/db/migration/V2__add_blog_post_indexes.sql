@@ -0,0 +1,10 @@
+-- Indexes backing findByTitle, findByAuthor, findByPublishedTrue and the
+-- createdAt range and keyset pagination queries.
+--
+-- The unique index on title makes the database the final arbiter for
+-- DuplicateTitleException. Existing databases must not contain duplicate
+-- titles before this migration runs.
+CREATE UNIQUE INDEX uk_blog_posts_title ON blog_posts (title);
+CREATE INDEX idx_blog_posts_author ON blog_posts (author);
+CREATE INDEX idx_blog_posts_published_created_at ON blog_posts (published, created_at);
+CREATE INDEX idx_blog_posts_created_at_id ON blog_posts (created_at, id);
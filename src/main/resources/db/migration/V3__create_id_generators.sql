@@ -0,0 +1,11 @@
+-- Table-based ID generator for blog_posts, replacing auto-increment so that
+-- Hibernate can assign IDs up front and batch inserts. The first block starts
+-- safely above every existing ID.
+CREATE TABLE id_generators (
+    name     VARCHAR(64) NOT NULL,
+    next_val BIGINT      NOT NULL,
+    PRIMARY KEY (name)
+);
+
+INSERT INTO id_generators (name, next_val)
+SELECT 'blog_posts', COALESCE(MAX(id), 0) + 51 FROM blog_posts;
@@ -0,0 +1,2 @@
+-- Optimistic locking version, exposed to clients as the post's ETag.
+ALTER TABLE blog_posts ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,16 @@
+-- Post bodies move out of blog_posts into their own table, so that listing,
+-- counting and existence checks never read them. Bodies are copied as plain
+-- text; the application compresses long ones the next time they are written.
+CREATE TABLE blog_post_contents (
+    post_id         BIGINT     NOT NULL,
+    body            MEDIUMTEXT,
+    compressed_body LONGBLOB,
+    content_length  INT        NOT NULL,
+    PRIMARY KEY (post_id),
+    CONSTRAINT fk_blog_post_contents_post FOREIGN KEY (post_id) REFERENCES blog_posts (id) ON DELETE CASCADE
+);
+
+INSERT INTO blog_post_contents (post_id, body, content_length)
+SELECT id, content, CHAR_LENGTH(content) FROM blog_posts;
+
+ALTER TABLE blog_posts DROP COLUMN content;
@@ -0,0 +1,7 @@
+-- Fields derived from title and content by the background pipeline. derived_version is the
+-- post version they were computed from; NULL or a different value means they are stale.
+ALTER TABLE blog_posts ADD COLUMN slug VARCHAR(120);
+ALTER TABLE blog_posts ADD COLUMN excerpt VARCHAR(320);
+ALTER TABLE blog_posts ADD COLUMN word_count INT;
+ALTER TABLE blog_posts ADD COLUMN reading_time_minutes INT;
+ALTER TABLE blog_posts ADD COLUMN derived_version BIGINT;
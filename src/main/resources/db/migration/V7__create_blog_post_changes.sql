@@ -0,0 +1,11 @@
+-- Append-only log of writes to blog posts, read by downstream consumers through
+-- GET /api/blogposts/changes. No foreign key: entries outlive the posts they describe.
+CREATE TABLE blog_post_changes (
+    seq        BIGINT      NOT NULL AUTO_INCREMENT,
+    post_id    BIGINT      NOT NULL,
+    type       VARCHAR(16) NOT NULL,
+    changed_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (seq)
+);
+
+CREATE INDEX idx_blog_post_changes_changed_at ON blog_post_changes (changed_at);
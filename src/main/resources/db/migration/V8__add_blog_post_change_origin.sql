@@ -0,0 +1,2 @@
+-- Instance that recorded the change, so caches can skip invalidating their own writes.
+ALTER TABLE blog_post_changes ADD COLUMN origin VARCHAR(64);
@@ -0,0 +1,3 @@
+-- Change times come from the database clock, so that instances with skewed clocks agree on
+-- how old an entry is when deciding whether a gap in the sequence has settled.
+ALTER TABLE blog_post_changes ALTER COLUMN changed_at SET DEFAULT (LOCALTIMESTAMP(6));
@@ -0,0 +1,150 @@
+package io.github.kashish5567.blogpostmanager.cache;
+
+import io.github.kashish5567.blogpostmanager.BlogPostManagerApplication;
+import io.github.kashish5567.blogpostmanager.exception.BlogPostNotFoundException;
+import io.github.kashish5567.blogpostmanager.model.BlogPost;
+import io.github.kashish5567.blogpostmanager.service.BlogPostService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Runs two application instances against one embedded database and checks that a write on
+ * one instance reaches the other's cache within the configured staleness bound, and that a
+ * post created on one instance can be read on the other straight away.
+ */
+class BlogPostCacheCoherenceTests {
+
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(100);
+    private static final Duration STALENESS_BOUND = Duration.ofSeconds(3);
+
+    private static ConfigurableApplicationContext first;
+    private static ConfigurableApplicationContext second;
+
+    @BeforeAll
+    static void startInstances() {
+        first = startInstance("first");
+        second = startInstance("second");
+    }
+
+    @AfterAll
+    static void stopInstances() {
+        if (second != null) {
+            second.close();
+        }
+        if (first != null) {
+            first.close();
+        }
+    }
+
+    @Test
+    void newPostOnOneInstanceIsFoundByTheOtherStraightAway() {
+        BlogPostService writer = service(first);
+        BlogPostService reader = service(second);
+        BlogPost created = writer.createBlogPost(post("Coherent create"));
+
+        // The second instance's membership filters have not seen this post yet
+        assertThat(reader.getBlogPostById(created.getId()).getTitle()).isEqualTo("Coherent create");
+        assertThat(reader.getBlogPostByTitle("Coherent create").getId()).isEqualTo(created.getId());
+        assertThat(reader.deleteBlogPost(created.getId())).isTrue();
+    }
+
+    @Test
+    void updateOnOneInstanceIsSeenByTheOther() {
+        BlogPostService writer = service(first);
+        BlogPostService reader = service(second);
+        BlogPost created = writer.createBlogPost(post("Coherent update"));
+
+        // Warm the second instance's cache with the original version
+        assertThat(reader.getBlogPostById(created.getId()).getContent()).isEqualTo(created.getContent());
+        assertThat(reader.getBlogPostByTitle("Coherent update").getId()).isEqualTo(created.getId());
+
+        writer.updateBlogPostContent(created.getId(), "Content changed on the first instance.", null);
+        writer.updateBlogPostTitle(created.getId(), "Coherent update, renamed", null);
+
+        awaitTrue(() -> reader.getBlogPostById(created.getId()).getContent()
+                .equals("Content changed on the first instance."));
+        awaitTrue(() -> reader.getBlogPostById(created.getId()).getTitle().equals("Coherent update, renamed"));
+        assertThatThrownBy(() -> reader.getBlogPostByTitle("Coherent update"))
+                .isInstanceOf(BlogPostNotFoundException.class);
+    }
+
+    @Test
+    void deleteOnOneInstanceIsSeenByTheOther() {
+        BlogPostService writer = service(first);
+        BlogPostService reader = service(second);
+        BlogPost created = writer.createBlogPost(post("Coherent delete"));
+        assertThat(isReadable(reader, created.getId())).isTrue();
+
+        writer.deleteBlogPost(created.getId());
+
+        awaitTrue(() -> !isReadable(reader, created.getId()));
+    }
+
+    @Test
+    void instancesDoNotEvictTheirOwnWrites() {
+        BlogPostService writer = service(first);
+        BlogPost created = writer.createBlogPost(post("Coherent own write"));
+        BlogPostCacheInvalidator invalidator = first.getBean(BlogPostCacheInvalidator.class);
+        long watermark = invalidator.watermark();
+
+        awaitTrue(() -> invalidator.watermark() > watermark);
+
+        assertThat(first.getBean(BlogPostCache.class).getById(created.getId(), id -> null)).isNotNull();
+    }
+
+    private static ConfigurableApplicationContext startInstance(String name) {
+        return new SpringApplicationBuilder(BlogPostManagerApplication.class)
+                .web(WebApplicationType.NONE)
+                // Passed as arguments, which take precedence over application.properties
+                .run("--spring.datasource.url=jdbc:h2:mem:blog_posts_coherence;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                        "--blogposts.instance-id=" + name,
+                        "--blogposts.cache.coherence.poll-interval=" + POLL_INTERVAL.toMillis() + "ms",
+                        // Never refreshed during the test, so reads of the other instance's posts
+                        // depend on the filters deferring to the database while behind the log
+                        "--blogposts.membership.refresh-interval=1h");
+    }
+
+    private static BlogPostService service(ConfigurableApplicationContext context) {
+        return context.getBean("databaseBlogPostService", BlogPostService.class);
+    }
+
+    /**
+     * Reads a post through the service.
+     */
+    private static boolean isReadable(BlogPostService service, long id) {
+        try {
+            return service.getBlogPostById(id) != null;
+        } catch (BlogPostNotFoundException e) {
+            return false;
+        }
+    }
+
+    private static BlogPost post(String title) {
+        return new BlogPost(title, "Content written on the first instance.", "Coherence Tester", null, true,
+                LocalDateTime.now());
+    }
+
+    private static void awaitTrue(Supplier<Boolean> condition) {
+        long deadline = System.nanoTime() + STALENESS_BOUND.toNanos();
+        while (!condition.get()) {
+            assertThat(System.nanoTime()).as("condition still false after %s", STALENESS_BOUND).isLessThan(deadline);
+            try {
+                Thread.sleep(POLL_INTERVAL.toMillis() / 2);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
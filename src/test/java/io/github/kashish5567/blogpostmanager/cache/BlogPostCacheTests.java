@@ -0,0 +1,65 @@
+package io.github.kashish5567.blogpostmanager.cache;
+
+import io.github.kashish5567.blogpostmanager.model.BlogPost;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that title lookups never put a post back that was evicted or replaced while it was
+ * being loaded.
+ */
+class BlogPostCacheTests {
+
+    private final BlogPostCache cache = new BlogPostCache(100, Duration.ofMinutes(10), new SimpleMeterRegistry());
+
+    @Test
+    void postEvictedDuringTitleLoadIsNotCached() {
+        BlogPost loaded = post(1, 0, "Deleted while loading");
+
+        BlogPost returned = cache.getByTitle("Deleted while loading", title -> {
+            // Another thread deletes the post after the database read
+            cache.evict(1);
+            return loaded;
+        });
+
+        assertThat(returned).isSameAs(loaded);
+        assertThat(cache.getIfPresent(1)).isNull();
+        assertThat(cache.getByTitle("Deleted while loading", title -> null)).isNull();
+    }
+
+    @Test
+    void titleLoadNeverReplacesNewerVersion() {
+        BlogPost renamed = post(1, 2, "Renamed");
+
+        cache.getByTitle("Original", title -> {
+            // Another thread renames the post after the database read
+            cache.put(renamed);
+            return post(1, 1, "Original");
+        });
+
+        assertThat(cache.getIfPresent(1)).isSameAs(renamed);
+        assertThat(cache.getByTitle("Original", title -> null)).isNull();
+    }
+
+    @Test
+    void titleLoadIsCachedForLaterLookups() {
+        BlogPost loaded = post(1, 0, "Cached title");
+        cache.getByTitle("Cached title", title -> loaded);
+
+        assertThat(cache.getByTitle("Cached title", title -> null)).isSameAs(loaded);
+        assertThat(cache.getIfPresent(1)).isSameAs(loaded);
+    }
+
+    private static BlogPost post(long id, long version, String title) {
+        BlogPost post = new BlogPost(title, "Content that is long enough to be valid.", "Cache Tester", null, false,
+                LocalDateTime.now());
+        post.setId(id);
+        post.setVersion(version);
+        return post;
+    }
+}
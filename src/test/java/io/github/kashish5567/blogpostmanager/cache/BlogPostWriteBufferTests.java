@@ -0,0 +1,114 @@
+package io.github.kashish5567.blogpostmanager.cache;
+
+import io.github.kashish5567.blogpostmanager.BlogPostManagerApplication;
+import io.github.kashish5567.blogpostmanager.model.BlogPost;
+import io.github.kashish5567.blogpostmanager.repository.BlogPostContentStore;
+import io.github.kashish5567.blogpostmanager.repository.BlogPostRepository;
+import io.github.kashish5567.blogpostmanager.search.BlogPostSearchIndex;
+import io.github.kashish5567.blogpostmanager.service.BlogPostService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that buffered content updates are visible straight away, reach the database and every
+ * local view when flushed, and are flushed when the application shuts down.
+ */
+class BlogPostWriteBufferTests {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    private ConfigurableApplicationContext context;
+
+    @AfterEach
+    void stopInstance() {
+        if (context != null) {
+            context.close();
+        }
+    }
+
+    @Test
+    void bufferedEditIsReadBackAndOnlyWrittenOnFlush() {
+        context = startInstance("blog_posts_write_behind_flush");
+        BlogPostService service = service(context);
+        BlogPost created = service.createBlogPost(post("Buffered post"));
+
+        BlogPost updated = service.updateBlogPostContent(created.getId(), "Buffered zephyrine content.", null);
+
+        assertThat(updated.getVersion()).isEqualTo(created.getVersion() + 1);
+        assertThat(service.getBlogPostById(created.getId()).getContent()).isEqualTo("Buffered zephyrine content.");
+        assertThat(committedContent(context, created.getId())).isEqualTo(created.getContent());
+
+        context.getBean(BlogPostWriteBuffer.class).flushAll();
+
+        assertThat(committedContent(context, created.getId())).isEqualTo("Buffered zephyrine content.");
+        assertThat(context.getBean(BlogPostSearchIndex.class).search("zephyrine", 10))
+                .extracting(hit -> hit.post().id())
+                .containsExactly(created.getId());
+        // The derived fields are recomputed from the flushed content
+        awaitTrue(() -> {
+            String excerpt = service.getBlogPostById(created.getId()).getExcerpt();
+            return excerpt != null && excerpt.contains("zephyrine");
+        });
+    }
+
+    @Test
+    void pendingEditsAreFlushedOnShutdown() {
+        context = startInstance("blog_posts_write_behind_shutdown");
+        BlogPost created = service(context).createBlogPost(post("Flushed on shutdown"));
+        service(context).updateBlogPostContent(created.getId(), "Written during graceful shutdown.", null);
+
+        context.close();
+        context = startInstance("blog_posts_write_behind_shutdown");
+
+        assertThat(committedContent(context, created.getId())).isEqualTo("Written during graceful shutdown.");
+    }
+
+    private static ConfigurableApplicationContext startInstance(String database) {
+        return new SpringApplicationBuilder(BlogPostManagerApplication.class)
+                .web(WebApplicationType.NONE)
+                // Passed as arguments, which take precedence over application.properties
+                .run("--spring.datasource.url=jdbc:h2:mem:" + database + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                        "--blogposts.write-behind.enabled=true",
+                        // Only flushed when the test asks, or on shutdown
+                        "--blogposts.write-behind.flush-interval=1h");
+    }
+
+    private static BlogPostService service(ConfigurableApplicationContext context) {
+        return context.getBean("databaseBlogPostService", BlogPostService.class);
+    }
+
+    /**
+     * Reads a post's content straight from the database, bypassing the cache and the buffer.
+     */
+    private static String committedContent(ConfigurableApplicationContext context, long id) {
+        BlogPost post = context.getBean(BlogPostRepository.class).findById(id).orElseThrow();
+        return context.getBean(BlogPostContentStore.class).load(post).getContent();
+    }
+
+    private static BlogPost post(String title) {
+        return new BlogPost(title, "Original content before any buffered edit.", "Buffer Tester", null, true,
+                LocalDateTime.now());
+    }
+
+    private static void awaitTrue(Supplier<Boolean> condition) {
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while (!condition.get()) {
+            assertThat(System.nanoTime()).as("condition still false after %s", TIMEOUT).isLessThan(deadline);
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package io.github.kashish5567.blogpostmanager.controller;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.kashish5567.blogpostmanager.model.BatchItemResult;
+import io.github.kashish5567.blogpostmanager.model.BlogPost;
+import io.github.kashish5567.blogpostmanager.model.BlogPostBatchUpdate;
+import io.github.kashish5567.blogpostmanager.service.BlogPostService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Checks that the batch endpoints report a result per item, so one bad item does not fail the
+ * others, and that batches above the size limit are rejected.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:blog_posts_batches;MODE=MySQL;DATABASE_TO_LOWER=TRUE")
+@AutoConfigureMockMvc
+class BlogPostBatchTests {
+
+    private static final int MAX_BATCH_SIZE = 1000;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    @Qualifier("databaseBlogPostService")
+    private BlogPostService blogPostService;
+
+    @Test
+    void createReportsEachItem() throws Exception {
+        List<BlogPost> posts = List.of(
+                newPost("Batch create one"),
+                newPost("Bad"),
+                newPost("Batch create one"),
+                newPost("Batch create two"));
+
+        List<BatchItemResult> results = perform(post("/api/blogposts/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(posts)));
+
+        assertThat(results).extracting(BatchItemResult::index).containsExactly(0, 1, 2, 3);
+        assertThat(results).extracting(BatchItemResult::success).containsExactly(true, false, false, true);
+        // The short title fails validation and the repeated title is a duplicate within the batch
+        assertThat(results.get(1).error()).isNotBlank();
+        assertThat(results.get(2).error()).contains("Duplicate title");
+        mockMvc.perform(get("/api/blogposts/{id}", results.get(3).id()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("Batch create two"));
+    }
+
+    @Test
+    void updateReportsEachItem() throws Exception {
+        BlogPost first = blogPostService.createBlogPost(newPost("Batch update one"));
+        BlogPost second = blogPostService.createBlogPost(newPost("Batch update two"));
+        List<BlogPostBatchUpdate> updates = List.of(
+                new BlogPostBatchUpdate(first.getId(), null, null, "Batch Editor", null),
+                new BlogPostBatchUpdate(Long.MAX_VALUE, null, null, "Batch Editor", null),
+                // Takes the title the first post already has
+                new BlogPostBatchUpdate(second.getId(), "Batch update one", null, null, null));
+
+        List<BatchItemResult> results = perform(put("/api/blogposts/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(updates)));
+
+        assertThat(results).extracting(BatchItemResult::success).containsExactly(true, false, false);
+        assertThat(results).extracting(BatchItemResult::id)
+                .containsExactly(first.getId(), Long.MAX_VALUE, second.getId());
+        assertThat(blogPostService.getBlogPostById(first.getId()).getAuthor()).isEqualTo("Batch Editor");
+        assertThat(blogPostService.getBlogPostById(second.getId()).getTitle()).isEqualTo("Batch update two");
+    }
+
+    @Test
+    void deleteReportsEachItem() throws Exception {
+        BlogPost first = blogPostService.createBlogPost(newPost("Batch delete one"));
+        BlogPost second = blogPostService.createBlogPost(newPost("Batch delete two"));
+
+        List<BatchItemResult> results = perform(delete("/api/blogposts/batch")
+                .param("ids", String.valueOf(first.getId()), String.valueOf(Long.MAX_VALUE),
+                        String.valueOf(second.getId())));
+
+        assertThat(results).extracting(BatchItemResult::success).containsExactly(true, false, true);
+        assertThat(results.get(1).error()).contains("not found");
+        mockMvc.perform(get("/api/blogposts/{id}", first.getId())).andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/blogposts/{id}", second.getId())).andExpect(status().isNotFound());
+    }
+
+    @Test
+    void batchesAboveTheLimitAreRejectedWith400() throws Exception {
+        List<BlogPost> posts = IntStream.rangeClosed(0, MAX_BATCH_SIZE)
+                .mapToObj(i -> newPost("Oversized batch " + i))
+                .toList();
+        mockMvc.perform(post("/api/blogposts/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(posts)))
+                .andExpect(status().isBadRequest());
+
+        String[] ids = Collections.nCopies(MAX_BATCH_SIZE + 1, "1").toArray(String[]::new);
+        mockMvc.perform(delete("/api/blogposts/batch").param("ids", ids))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(post("/api/blogposts/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private List<BatchItemResult> perform(MockHttpServletRequestBuilder request) throws Exception {
+        String body = mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readValue(body, new TypeReference<>() {
+        });
+    }
+
+    private static BlogPost newPost(String title) {
+        return new BlogPost(title, "Content that is long enough to be valid.", "Batch Tester", null, false,
+                LocalDateTime.now());
+    }
+}
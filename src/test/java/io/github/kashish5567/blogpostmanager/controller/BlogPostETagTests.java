@@ -0,0 +1,112 @@
+package io.github.kashish5567.blogpostmanager.controller;
+
+import io.github.kashish5567.blogpostmanager.model.BlogPost;
+import io.github.kashish5567.blogpostmanager.service.BlogPostService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Checks ETags on single-post reads, {@code If-None-Match} revalidation and {@code If-Match}
+ * preconditions on updates.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:blog_posts_etags;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+        // Derived fields change the ETag in the background; keep it stable during a test
+        "blogposts.derived.enabled=false"
+})
+@AutoConfigureMockMvc
+class BlogPostETagTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    @Qualifier("databaseBlogPostService")
+    private BlogPostService blogPostService;
+
+    @Test
+    void readReturnsETagAndMatchingIfNoneMatchGets304() throws Exception {
+        BlogPost post = blogPostService.createBlogPost(post("ETag revalidation"));
+
+        mockMvc.perform(get("/api/blogposts/{id}", post.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, tag(post.getVersion())));
+        mockMvc.perform(get("/api/blogposts/{id}", post.getId())
+                        .header(HttpHeaders.IF_NONE_MATCH, tag(post.getVersion())))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get("/api/blogposts/{id}", post.getId())
+                        .header(HttpHeaders.IF_NONE_MATCH, tag(post.getVersion() + 1)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void updateWithCurrentIfMatchSucceedsAndReturnsNextETag() throws Exception {
+        BlogPost post = blogPostService.createBlogPost(post("ETag current"));
+
+        mockMvc.perform(put("/api/blogposts/{id}/author", post.getId())
+                        .param("newAuthor", "Second Author")
+                        .header(HttpHeaders.IF_MATCH, tag(post.getVersion())))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, tag(post.getVersion() + 1)))
+                .andExpect(jsonPath("$.author").value("Second Author"));
+    }
+
+    @Test
+    void updateWithStaleIfMatchFailsWith412() throws Exception {
+        BlogPost post = blogPostService.createBlogPost(post("ETag stale"));
+        blogPostService.updateBlogPostAuthor(post.getId(), "Concurrent Author", null);
+
+        mockMvc.perform(put("/api/blogposts/{id}/author", post.getId())
+                        .param("newAuthor", "Late Author")
+                        .header(HttpHeaders.IF_MATCH, tag(post.getVersion())))
+                .andExpect(status().isPreconditionFailed());
+        mockMvc.perform(get("/api/blogposts/{id}", post.getId()))
+                .andExpect(jsonPath("$.author").value("Concurrent Author"));
+    }
+
+    @Test
+    void ifMatchListPassesWhenAnyTagMatches() throws Exception {
+        BlogPost post = blogPostService.createBlogPost(post("ETag list"));
+
+        mockMvc.perform(put("/api/blogposts/{id}/author", post.getId())
+                        .param("newAuthor", "Listed Author")
+                        .header(HttpHeaders.IF_MATCH, tag(post.getVersion() + 5) + ", " + tag(post.getVersion())))
+                .andExpect(status().isOk());
+        mockMvc.perform(put("/api/blogposts/{id}/author", post.getId())
+                        .param("newAuthor", "Unlisted Author")
+                        .header(HttpHeaders.IF_MATCH, tag(post.getVersion() + 5) + ", " + tag(post.getVersion() + 6)))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    void weakIfMatchNeverMatches() throws Exception {
+        BlogPost post = blogPostService.createBlogPost(post("ETag weak"));
+
+        mockMvc.perform(put("/api/blogposts/{id}/author", post.getId())
+                        .param("newAuthor", "Weak Author")
+                        .header(HttpHeaders.IF_MATCH, "W/" + tag(post.getVersion())))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    private static String tag(long version) {
+        return "\"" + version + "\"";
+    }
+
+    private static BlogPost post(String title) {
+        return new BlogPost(title, "Content that is long enough to be valid.", "First Author", null, false,
+                LocalDateTime.now());
+    }
+}
@@ -0,0 +1,110 @@
+package io.github.kashish5567.blogpostmanager.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.kashish5567.blogpostmanager.model.BlogPost;
+import io.github.kashish5567.blogpostmanager.model.BlogPostPage;
+import io.github.kashish5567.blogpostmanager.model.BlogPostSummary;
+import io.github.kashish5567.blogpostmanager.service.BlogPostService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Pages through {@code GET /api/blogposts/feed} and checks that it lists only published posts,
+ * newest first, and follows publishing, unpublishing and deletes.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:blog_posts_feed;MODE=MySQL;DATABASE_TO_LOWER=TRUE")
+@AutoConfigureMockMvc
+class BlogPostFeedTests {
+
+    private static final LocalDateTime START = LocalDateTime.of(2024, 5, 1, 9, 0);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    @Qualifier("databaseBlogPostService")
+    private BlogPostService blogPostService;
+
+    @Test
+    void feedPagesThroughPublishedPostsNewestFirst() throws Exception {
+        List<Long> created = new ArrayList<>();
+        List<Long> published = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            BlogPost post = blogPostService.createBlogPost(post("Feed post " + i, i % 3 != 0, START.plusHours(i)));
+            created.add(post.getId());
+            if (post.isPublished()) {
+                published.add(0, post.getId());
+            }
+        }
+
+        List<BlogPostSummary> feed = readFeed(2);
+
+        assertThat(feed).allMatch(BlogPostSummary::published);
+        // Other tests share the database; only the order of this test's posts is checked
+        assertThat(feed).extracting(BlogPostSummary::id)
+                .filteredOn(created::contains)
+                .containsExactlyElementsOf(published);
+    }
+
+    @Test
+    void feedFollowsPublishingAndDeletes() throws Exception {
+        BlogPost draft = blogPostService.createBlogPost(post("Feed draft", false, START.minusDays(1)));
+        BlogPost live = blogPostService.createBlogPost(post("Feed live", true, START.minusDays(2)));
+        BlogPost removed = blogPostService.createBlogPost(post("Feed removed", true, START.minusDays(3)));
+
+        mockMvc.perform(put("/api/blogposts/{id}/togglePublish", draft.getId())).andExpect(status().isOk());
+        mockMvc.perform(put("/api/blogposts/{id}/togglePublish", live.getId())).andExpect(status().isOk());
+        mockMvc.perform(delete("/api/blogposts/{id}", removed.getId())).andExpect(status().is2xxSuccessful());
+
+        assertThat(readFeed(100)).extracting(BlogPostSummary::id)
+                .contains(draft.getId())
+                .doesNotContain(live.getId(), removed.getId());
+    }
+
+    @Test
+    void invalidFeedCursorIsRejectedWith400() throws Exception {
+        mockMvc.perform(get("/api/blogposts/feed").param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private List<BlogPostSummary> readFeed(int size) throws Exception {
+        List<BlogPostSummary> seen = new ArrayList<>();
+        String cursor = null;
+        do {
+            MockHttpServletRequestBuilder request = get("/api/blogposts/feed").param("size", String.valueOf(size));
+            if (cursor != null) {
+                request.param("cursor", cursor);
+            }
+            BlogPostPage page = objectMapper.readValue(mockMvc.perform(request)
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString(), BlogPostPage.class);
+            assertThat(page.items()).hasSizeLessThanOrEqualTo(size);
+            seen.addAll(page.items());
+            cursor = page.nextCursor();
+        } while (cursor != null);
+        return seen;
+    }
+
+    private static BlogPost post(String title, boolean published, LocalDateTime createdAt) {
+        return new BlogPost(title, "Content that is long enough to be valid.", "Feed Tester", null, published,
+                createdAt);
+    }
+}
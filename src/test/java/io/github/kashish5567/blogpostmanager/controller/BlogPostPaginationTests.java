@@ -0,0 +1,104 @@
+package io.github.kashish5567.blogpostmanager.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.kashish5567.blogpostmanager.model.BatchItemResult;
+import io.github.kashish5567.blogpostmanager.model.BlogPost;
+import io.github.kashish5567.blogpostmanager.model.BlogPostPage;
+import io.github.kashish5567.blogpostmanager.model.BlogPostSummary;
+import io.github.kashish5567.blogpostmanager.service.BlogPostService;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Walks {@code GET /api/blogposts} page by page and checks that every post is returned once,
+ * in {@code (createdAt, id)} order, and that a malformed cursor or oversized page is rejected.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:blog_posts_pages;MODE=MySQL;DATABASE_TO_LOWER=TRUE")
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class BlogPostPaginationTests {
+
+    private static final int POST_COUNT = 7;
+    private static final LocalDateTime START = LocalDateTime.of(2024, 3, 1, 12, 0);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    @Qualifier("databaseBlogPostService")
+    private BlogPostService blogPostService;
+
+    private final List<Long> createdIds = new ArrayList<>();
+
+    @BeforeAll
+    void createPosts() {
+        List<BlogPost> posts = new ArrayList<>();
+        for (int i = 0; i < POST_COUNT; i++) {
+            // Two posts share each creation time, so ties are broken by ID
+            posts.add(new BlogPost("Paged post " + i, "Content that is long enough to be valid.",
+                    "Page Tester", null, true, START.plusMinutes(i / 2)));
+        }
+        blogPostService.createBlogPosts(posts).stream().map(BatchItemResult::id).forEach(createdIds::add);
+    }
+
+    @Test
+    void pagesVisitEveryPostOnceInOrder() throws Exception {
+        List<BlogPostSummary> seen = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            MockHttpServletRequestBuilder request = get("/api/blogposts").param("size", "3");
+            if (cursor != null) {
+                request.param("cursor", cursor);
+            }
+            BlogPostPage page = objectMapper.readValue(mockMvc.perform(request)
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString(), BlogPostPage.class);
+            assertThat(page.items()).hasSizeLessThanOrEqualTo(3);
+            seen.addAll(page.items());
+            cursor = page.nextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertThat(pages).isEqualTo(3);
+        assertThat(seen).extracting(BlogPostSummary::id).containsExactlyInAnyOrderElementsOf(createdIds);
+        for (int i = 1; i < seen.size(); i++) {
+            BlogPostSummary previous = seen.get(i - 1);
+            BlogPostSummary current = seen.get(i);
+            assertThat(current.createdAt().isAfter(previous.createdAt())
+                    || current.createdAt().isEqual(previous.createdAt()) && current.id() > previous.id())
+                    .as("%s after %s", current, previous)
+                    .isTrue();
+        }
+    }
+
+    @Test
+    void invalidCursorIsRejectedWith400() throws Exception {
+        mockMvc.perform(get("/api/blogposts").param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void pageSizeAboveLimitIsRejectedWith400() throws Exception {
+        mockMvc.perform(get("/api/blogposts").param("size", "101"))
+                .andExpect(status().isBadRequest());
+    }
+}
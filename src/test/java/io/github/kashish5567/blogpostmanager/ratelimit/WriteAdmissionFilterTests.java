@@ -0,0 +1,187 @@
+package io.github.kashish5567.blogpostmanager.ratelimit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Floods the write endpoints from many threads and checks that writes are shed with
+ * {@code 429} while reads running alongside them stay close to their latency without load.
+ * Both read and write paths are warmed up first, so start-up and JIT compilation are not
+ * counted against either measurement.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:blog_posts_ratelimit;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+        "spring.datasource.hikari.maximum-pool-size=6",
+        "blogposts.ratelimit.writes-per-second=50",
+        "blogposts.ratelimit.burst=20",
+        "blogposts.ratelimit.max-concurrent-writes=3",
+        "blogposts.ratelimit.queue-timeout=20ms"
+})
+class WriteAdmissionFilterTests {
+
+    private static final int WRITERS = 16;
+    private static final int WRITES_PER_WRITER = 50;
+    private static final int READS = 200;
+    private static final int WARMUP_READS = 200;
+    private static final int WARMUP_WRITES = 10;
+    private static final int BASELINE_READS = 100;
+    /**
+     * Under load, p99 read latency may grow to this multiple of the unloaded p99, plus
+     * {@link #READ_LATENCY_ALLOWANCE} to absorb scheduling noise when the baseline is tiny.
+     */
+    private static final int READ_LATENCY_FACTOR = 10;
+    private static final Duration READ_LATENCY_ALLOWANCE = Duration.ofMillis(250);
+
+    @LocalServerPort
+    private int port;
+
+    private final ExecutorService clientExecutor = Executors.newFixedThreadPool(WRITERS + 2);
+    private final HttpClient client = HttpClient.newBuilder()
+            .executor(clientExecutor)
+            .build();
+
+    @AfterEach
+    void closeClient() {
+        client.close();
+        clientExecutor.shutdownNow();
+    }
+
+    @Test
+    void tokenBucketAllowsBurstThenSustainedRate() {
+        long second = TimeUnit.SECONDS.toNanos(1);
+        TokenBucket bucket = new TokenBucket(10, 3, 0);
+
+        assertThat(bucket.tryAcquire(0)).isZero();
+        assertThat(bucket.tryAcquire(0)).isZero();
+        assertThat(bucket.tryAcquire(0)).isZero();
+        assertThat(bucket.tryAcquire(0)).isEqualTo(second / 10);
+        assertThat(bucket.tryAcquire(second / 10)).isZero();
+        assertThat(bucket.tryAcquire(second / 10)).isPositive();
+    }
+
+    @Test
+    void readsStayFastWhileWritesAreShed() throws Exception {
+        for (int i = 0; i < WARMUP_WRITES; i++) {
+            send(HttpRequest.newBuilder(uri("/api/blogposts"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(post(-1, i))));
+        }
+        readLatencies(WARMUP_READS);
+        long baselineP99 = p99(readLatencies(BASELINE_READS));
+        // Let the warm-up writes' tokens come back before the flood
+        Thread.sleep(1000);
+
+        AtomicInteger created = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        AtomicInteger missingRetryAfter = new AtomicInteger();
+        AtomicBoolean flooding = new AtomicBoolean(true);
+
+        ExecutorService writers = Executors.newFixedThreadPool(WRITERS);
+        try {
+            flood(writers, created, rejected, missingRetryAfter);
+
+            List<Long> loadedLatencies = Collections.synchronizedList(new ArrayList<>());
+            List<Integer> readStatuses = Collections.synchronizedList(new ArrayList<>());
+            Thread reader = new Thread(() -> {
+                for (int i = 0; i < READS && flooding.get(); i++) {
+                    long start = System.nanoTime();
+                    HttpResponse<String> response = send(HttpRequest.newBuilder(uri("/api/blogposts?size=20")).GET());
+                    loadedLatencies.add(System.nanoTime() - start);
+                    readStatuses.add(response.statusCode());
+                }
+            });
+            reader.start();
+
+            assertThat(writers.awaitTermination(60, TimeUnit.SECONDS)).isTrue();
+            flooding.set(false);
+            reader.join(TimeUnit.SECONDS.toMillis(30));
+
+            assertThat(created.get()).isPositive();
+            assertThat(rejected.get()).isPositive();
+            assertThat(missingRetryAfter.get()).isZero();
+            assertThat(readStatuses).isNotEmpty().allMatch(status -> status == 200);
+            assertThat(p99(loadedLatencies))
+                    .isLessThan(baselineP99 * READ_LATENCY_FACTOR + READ_LATENCY_ALLOWANCE.toNanos());
+        } finally {
+            writers.shutdownNow();
+        }
+    }
+
+    private void flood(ExecutorService writers, AtomicInteger created, AtomicInteger rejected,
+                       AtomicInteger missingRetryAfter) {
+        for (int w = 0; w < WRITERS; w++) {
+            int writer = w;
+            writers.execute(() -> {
+                for (int i = 0; i < WRITES_PER_WRITER; i++) {
+                    HttpResponse<String> response = send(HttpRequest.newBuilder(uri("/api/blogposts"))
+                            .header("Content-Type", "application/json")
+                            .POST(HttpRequest.BodyPublishers.ofString(post(writer, i))));
+                    if (response.statusCode() == 201) {
+                        created.incrementAndGet();
+                    } else if (response.statusCode() == 429) {
+                        rejected.incrementAndGet();
+                        if (response.headers().firstValue("Retry-After").isEmpty()) {
+                            missingRetryAfter.incrementAndGet();
+                        }
+                    }
+                }
+            });
+        }
+        writers.shutdown();
+    }
+
+    /**
+     * Issues reads one after another and returns their latencies in nanoseconds.
+     */
+    private List<Long> readLatencies(int count) {
+        List<Long> latencies = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            long start = System.nanoTime();
+            HttpResponse<String> response = send(HttpRequest.newBuilder(uri("/api/blogposts?size=20")).GET());
+            latencies.add(System.nanoTime() - start);
+            assertThat(response.statusCode()).isEqualTo(200);
+        }
+        return latencies;
+    }
+
+    private static long p99(List<Long> latencies) {
+        long[] sorted = latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+        return sorted[Math.max(0, (int) Math.ceil(sorted.length * 0.99) - 1)];
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private HttpResponse<String> send(HttpRequest.Builder request) {
+        try {
+            return client.send(request.timeout(Duration.ofSeconds(30)).build(), HttpResponse.BodyHandlers.ofString());
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String post(int writer, int index) {
+        return """
+                {"title": "Flood %d-%d", "content": "Content written during a write flood.", \
+                "author": "Flood Tester", "published": true}""".formatted(writer, index);
+    }
+}
@@ -0,0 +1,110 @@
+package io.github.kashish5567.blogpostmanager.repository;
+
+import io.github.kashish5567.blogpostmanager.model.BlogPost;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Checks that the Flyway migrations create the indexes declared on {@link BlogPost}
+ * and that the repository's lookups are planned against them.
+ * <p>
+ * The SQL Hibernate generates for each repository method is captured with a
+ * {@link StatementInspector} and explained as it is, so a change to a query or to the
+ * mapping that defeats an index fails here.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:blog_posts_indexes;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "io.github.kashish5567.blogpostmanager.repository.BlogPostRepositoryIndexTests$CapturingStatementInspector"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class BlogPostRepositoryIndexTests {
+
+    private static final LocalDateTime START = LocalDateTime.of(2024, 1, 1, 0, 0);
+    private static final LocalDateTime END = LocalDateTime.of(2024, 12, 31, 0, 0);
+
+    @Autowired
+    private BlogPostRepository blogPostRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void findByTitleUsesUniqueTitleIndex() {
+        assertThat(explain(() -> blogPostRepository.findByTitle("Some title"), "Some title"))
+                .containsIgnoringCase("uk_blog_posts_title");
+    }
+
+    @Test
+    void findByAuthorUsesAuthorIndex() {
+        assertThat(explain(() -> blogPostRepository.findByAuthor("Someone"), "Someone"))
+                .containsIgnoringCase("idx_blog_posts_author");
+    }
+
+    @Test
+    void findPublishedSummariesUsesPublishedCreatedAtIndex() {
+        assertThat(explain(() -> blogPostRepository.findPublishedSummaries()))
+                .containsIgnoringCase("idx_blog_posts_published_created_at");
+    }
+
+    @Test
+    void findSummariesInDateRangeUsesCreatedAtIndex() {
+        assertThat(explain(() -> blogPostRepository.findSummariesInDateRange(START, END), START, END))
+                .containsIgnoringCase("idx_blog_posts_created_at_id");
+    }
+
+    @Test
+    void duplicateTitleIsRejectedByDatabase() {
+        blogPostRepository.saveAndFlush(newPost("Unique title", "First Author"));
+
+        assertThatThrownBy(() -> blogPostRepository.saveAndFlush(newPost("Unique title", "Second Author")))
+                .isInstanceOf(DataIntegrityViolationException.class)
+                .hasMessageContaining("uk_blog_posts_title");
+    }
+
+    /**
+     * Runs a repository query and explains the one select statement it issued.
+     *
+     * @param parameters the values to bind to the statement's parameters, in order
+     */
+    private String explain(Runnable query, Object... parameters) {
+        CapturingStatementInspector.STATEMENTS.clear();
+        query.run();
+        List<String> selects = CapturingStatementInspector.STATEMENTS.stream()
+                .filter(sql -> sql.regionMatches(true, 0, "select", 0, 6))
+                .toList();
+        assertThat(selects).hasSize(1);
+        return jdbcTemplate.queryForObject("EXPLAIN " + selects.getFirst(), String.class, parameters);
+    }
+
+    private static BlogPost newPost(String title, String author) {
+        return new BlogPost(title, "Content that is long enough to be valid.", author, null, false, LocalDateTime.now());
+    }
+
+    /**
+     * Records every statement Hibernate prepares. Hibernate creates the instance itself, so
+     * the statements are kept in a static list.
+     */
+    public static class CapturingStatementInspector implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package io.github.kashish5567.blogpostmanager.search;
+
+import io.github.kashish5567.blogpostmanager.model.BlogPost;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks the ranking of {@link BlogPostSearchIndex} and that concurrent updates to posts sharing
+ * a term never drop one of them from that term's postings.
+ */
+class BlogPostSearchIndexTests {
+
+    @Test
+    void titleMatchesRankAboveContentMatches() {
+        BlogPostSearchIndex index = new BlogPostSearchIndex();
+        index.index(post(1, 0, "Gardening notes", "Some words about kubernetes and other things."));
+        index.index(post(2, 0, "Kubernetes in practice", "Running clusters without surprises."));
+        index.index(post(3, 0, "Cooking", "Nothing relevant here at all."));
+
+        List<BlogPostSearchHit> hits = index.search("kubernetes", 10);
+
+        assertThat(hits).extracting(hit -> hit.post().id()).containsExactly(2L, 1L);
+        assertThat(hits.get(0).score()).isGreaterThan(hits.get(1).score());
+    }
+
+    @Test
+    void postsMatchingMoreTermsRankFirstAndLimitIsApplied() {
+        BlogPostSearchIndex index = new BlogPostSearchIndex();
+        index.index(post(1, 0, "Java streams", "Collectors and lambdas."));
+        index.index(post(2, 0, "Java records", "Compact data carriers."));
+        index.index(post(3, 0, "Java streams with records", "Collectors over records."));
+
+        List<BlogPostSearchHit> hits = index.search("java streams records", 2);
+
+        assertThat(hits).hasSize(2);
+        assertThat(hits.get(0).post().id()).isEqualTo(3L);
+    }
+
+    @Test
+    void olderVersionNeverReplacesNewerOne() {
+        BlogPostSearchIndex index = new BlogPostSearchIndex();
+        index.index(post(1, 2, "Renamed title", "Current content."));
+        index.index(post(1, 1, "Original title", "Outdated content."));
+
+        assertThat(index.search("original", 10)).isEmpty();
+        assertThat(index.search("renamed", 10)).extracting(hit -> hit.post().id()).containsExactly(1L);
+    }
+
+    @Test
+    void removedPostIsNotFound() {
+        BlogPostSearchIndex index = new BlogPostSearchIndex();
+        index.index(post(1, 0, "Ephemeral post", "Soon to be deleted."));
+        index.remove(1);
+
+        assertThat(index.search("ephemeral", 10)).isEmpty();
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    void concurrentReindexingOfPostsSharingTermsKeepsThemAll() {
+        int writers = 4;
+        int rounds = 500;
+        int updatesPerRound = 100;
+        try (ExecutorService executor = Executors.newFixedThreadPool(writers)) {
+            for (int round = 0; round < rounds; round++) {
+                BlogPostSearchIndex index = new BlogPostSearchIndex();
+                CyclicBarrier start = new CyclicBarrier(writers);
+                // Each re-index unlinks the post from the shared term before adding it again
+                CompletableFuture<?>[] updates = LongStream.rangeClosed(1, writers)
+                        .mapToObj(id -> CompletableFuture.runAsync(
+                                () -> reindex(index, id, start, updatesPerRound), executor))
+                        .toArray(CompletableFuture[]::new);
+                CompletableFuture.allOf(updates).join();
+
+                assertThat(index.search("shared", writers))
+                        .as("round %d", round)
+                        .hasSize(writers);
+            }
+        }
+    }
+
+    private static void reindex(BlogPostSearchIndex index, long id, CyclicBarrier start, int updates) {
+        try {
+            start.await();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+        for (int version = 0; version < updates; version++) {
+            index.index(post(id, version, "Shared post " + id, "Shared words, revision " + version + "."));
+        }
+    }
+
+    private static BlogPost post(long id, long version, String title, String content) {
+        BlogPost post = new BlogPost(title, content, "Search Tester", null, true, LocalDateTime.now());
+        post.setId(id);
+        post.setVersion(version);
+        return post;
+    }
+}
@@ -0,0 +1,116 @@
+package io.github.kashish5567.blogpostmanager.transfer;
+
+import io.github.kashish5567.blogpostmanager.model.BatchItemResult;
+import io.github.kashish5567.blogpostmanager.model.BlogPost;
+import io.github.kashish5567.blogpostmanager.service.BlogPostService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Exports posts, deletes them and imports them back in each format, and checks the exit status
+ * of command-line transfers.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:blog_posts_transfer;MODE=MySQL;DATABASE_TO_LOWER=TRUE")
+class BlogPostTransferTests {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 2, 29, 23, 59, 30);
+
+    @Autowired
+    private BlogPostTransferService transferService;
+
+    @Autowired
+    private BlogPostTransferRunner transferRunner;
+
+    @Autowired
+    @Qualifier("databaseBlogPostService")
+    private BlogPostService blogPostService;
+
+    @ParameterizedTest
+    @EnumSource(TransferFormat.class)
+    void exportedPostsImportBackUnchanged(TransferFormat format) throws Exception {
+        BlogPost plain = blogPostService.createBlogPost(post(format + " round trip", "Plain content for the round trip.", true));
+        // Separators, quotes and line breaks must survive both formats
+        BlogPost awkward = blogPostService.createBlogPost(post(format + " \"quoted\", title",
+                "Line one, with a comma.\nLine two with \"quotes\" and ünïcödé.", false));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long exported = transferService.exportPosts(out, format);
+        List<Long> ids = new ArrayList<>();
+        blogPostService.forEachBlogPost(post -> ids.add(post.getId()));
+        assertThat(exported).isEqualTo(ids.size());
+        assertThat(blogPostService.deleteBlogPosts(ids)).allMatch(BatchItemResult::success);
+
+        ImportReport report = transferService.importPosts(new ByteArrayInputStream(out.toByteArray()), format);
+
+        assertThat(report.read()).isEqualTo(exported);
+        assertThat(report.created()).isEqualTo(exported);
+        assertThat(report.failed()).isZero();
+        assertSameContent(blogPostService.getBlogPostByTitle(plain.getTitle()), plain);
+        assertSameContent(blogPostService.getBlogPostByTitle(awkward.getTitle()), awkward);
+
+        // Titles that already exist are skipped on a second import
+        ImportReport again = transferService.importPosts(new ByteArrayInputStream(out.toByteArray()), format);
+        assertThat(again.skipped()).isEqualTo(exported);
+        assertThat(again.created()).isZero();
+    }
+
+    @Test
+    void malformedRecordsAreReportedWithoutStoppingTheImport() throws Exception {
+        String input = "{not json}\n"
+                + "{\"title\":\"Imported after a bad line\",\"content\":\"Content that is long enough to be valid.\","
+                + "\"author\":\"Transfer Tester\",\"published\":true,\"createdAt\":\"2024-01-01T10:00:00\"}\n";
+
+        ImportReport report = transferService.importPosts(
+                new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)), TransferFormat.NDJSON);
+
+        assertThat(report.read()).isEqualTo(2);
+        assertThat(report.created()).isEqualTo(1);
+        assertThat(report.failed()).isEqualTo(1);
+        assertThat(report.errors()).singleElement().asString().contains("Invalid JSON");
+    }
+
+    @Test
+    void commandLineExportExitsWithZero(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("posts.ndjson");
+
+        assertThat(transferRunner.transfer(new DefaultApplicationArguments("--export=" + file))).isZero();
+        assertThat(file).exists();
+    }
+
+    @Test
+    void unknownFormatExitsWithOne(@TempDir Path dir) {
+        Path file = dir.resolve("posts.xml");
+
+        assertThat(transferRunner.transfer(new DefaultApplicationArguments("--export=" + file, "--format=xml")))
+                .isEqualTo(1);
+        assertThat(Files.exists(file)).isFalse();
+    }
+
+    private static void assertSameContent(BlogPost actual, BlogPost expected) {
+        assertThat(actual.getContent()).isEqualTo(expected.getContent());
+        assertThat(actual.getAuthor()).isEqualTo(expected.getAuthor());
+        assertThat(actual.isPublished()).isEqualTo(expected.isPublished());
+        assertThat(actual.getCreatedAt()).isEqualTo(expected.getCreatedAt());
+    }
+
+    private static BlogPost post(String title, String content, boolean published) {
+        return new BlogPost(title, content, "Transfer Tester", null, published, CREATED_AT);
+    }
+}